@@ -1,6 +1,12 @@
 package com.gklyphon.AnswerQ.config;
 
+import com.gklyphon.AnswerQ.config.datasource.ReadYourWrites;
 import com.gklyphon.AnswerQ.repositories.IUserRepository;
+import com.gklyphon.AnswerQ.services.security.BoundedPasswordEncoder;
+import com.gklyphon.AnswerQ.services.security.PasswordHashingExecutor;
+import com.gklyphon.AnswerQ.services.security.PasswordWorkFactorCalibrator;
+import com.gklyphon.AnswerQ.services.security.UserDetailsCache;
+import com.gklyphon.AnswerQ.services.security.UserSnapshot;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -8,12 +14,10 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.crypto.scrypt.SCryptPasswordEncoder;
 
-import java.security.SecureRandom;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,54 +31,75 @@ import java.util.Map;
 public class AppConfig {
 
     private final IUserRepository userRepository;
+    private final UserDetailsCache userDetailsCache;
 
-    public AppConfig(IUserRepository userRepository) {
+    public AppConfig(IUserRepository userRepository, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
-     * Configures a delegating password encoder with multiple hashing algorithms.
+     * Configures the application password encoder. Hashing is delegated to a
+     * {@link DelegatingPasswordEncoder} and runs on the bounded {@link PasswordHashingExecutor}.
      *
-     * @return DelegatingPasswordEncoder With multiple encoding options
+     * @param passwordHashingExecutor Pool that runs the hashing work
+     * @param calibrator Work factors measured for this machine
+     * @return PasswordEncoder backed by the hashing pool
      */
     @Bean
-    static PasswordEncoder passwordEncoder() {
-        String idForEncode = "bcrypt";
+    PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor, PasswordWorkFactorCalibrator calibrator) {
+        return new BoundedPasswordEncoder(delegatingPasswordEncoder(calibrator), passwordHashingExecutor);
+    }
+
+    /**
+     * Configures a delegating password encoder with multiple hashing algorithms. The encoder
+     * used for new hashes, and the target of {@code upgradeEncoding}, is the calibrated one.
+     *
+     * @param calibrator Work factors measured for this machine
+     * @return DelegatingPasswordEncoder With multiple encoding options
+     */
+    private static PasswordEncoder delegatingPasswordEncoder(PasswordWorkFactorCalibrator calibrator) {
+        String idForEncode = calibrator.getAlgorithm();
 
         Map<String, PasswordEncoder> encoders = new HashMap<>();
-        encoders.put(idForEncode, new BCryptPasswordEncoder(BCryptPasswordEncoder.BCryptVersion.$2B, 14, new SecureRandom()));
+        encoders.put(PasswordWorkFactorCalibrator.BCRYPT, calibrator.createBcryptEncoder());
         encoders.put("scrypt", new SCryptPasswordEncoder(16384, 8, 1, 32, 64));
         encoders.put("scrypt@SpringSecurity_v5_8", SCryptPasswordEncoder.defaultsForSpringSecurity_v5_8());
-        encoders.put("argon2", new Argon2PasswordEncoder(16, 32, 4, 65536, 4));
+        encoders.put(PasswordWorkFactorCalibrator.ARGON2, calibrator.createArgon2Encoder());
         encoders.put("argon2@SpringSecurity_v5_8", Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
 
         DelegatingPasswordEncoder delegatingPasswordEncoder = new DelegatingPasswordEncoder(idForEncode, encoders);
-        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(encoders.get(idForEncode));
+        delegatingPasswordEncoder.setDefaultPasswordEncoderForMatches(encoders.get(PasswordWorkFactorCalibrator.BCRYPT));
 
         return delegatingPasswordEncoder;
     }
 
     /**
      * Custom user details service that loads users by email from the repository.
+     * Results are kept as immutable snapshots in the {@link UserDetailsCache}, so they are
+     * read from the primary: a snapshot loaded from a lagging replica would stay cached.
      *
      * @return UserDetailsService implementation
      */
     @Bean
     UserDetailsService userDetailsService() {
-        return username -> userRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        return username -> userDetailsCache.get(username, email -> ReadYourWrites.onPrimary(
+                () -> userRepository.findByEmail(email)
+                        .map(UserSnapshot::from)
+                        .orElseThrow(() -> new UsernameNotFoundException("User not found"))));
     }
 
     /**
      * Configures the authentication provider with custom user details and password encoder.
      *
+     * @param passwordEncoder The application password encoder
      * @return Configured DaoAuthenticationProvider
      */
     @Bean
-    AuthenticationProvider authenticationProvider() {
+    AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authenticationProvider = new DaoAuthenticationProvider();
         authenticationProvider.setUserDetailsService(userDetailsService());
-        authenticationProvider.setPasswordEncoder(passwordEncoder());
+        authenticationProvider.setPasswordEncoder(passwordEncoder);
         return authenticationProvider;
     }
 
@@ -0,0 +1,15 @@
+package com.gklyphon.AnswerQ.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled background jobs of the application.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
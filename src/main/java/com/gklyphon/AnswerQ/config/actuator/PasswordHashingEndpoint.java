@@ -0,0 +1,44 @@
+package com.gklyphon.AnswerQ.config.actuator;
+
+import com.gklyphon.AnswerQ.services.security.PasswordWorkFactorCalibrator;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint that reports the password hashing work factor chosen at startup.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+@Endpoint(id = "passwordhashing")
+public class PasswordHashingEndpoint {
+
+    private final PasswordWorkFactorCalibrator calibrator;
+
+    public PasswordHashingEndpoint(PasswordWorkFactorCalibrator calibrator) {
+        this.calibrator = calibrator;
+    }
+
+    /**
+     * Returns the active algorithm, work factors and calibration measurements.
+     *
+     * @return Map describing the password hashing configuration
+     */
+    @ReadOperation
+    public Map<String, Object> passwordHashing() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("algorithm", calibrator.getAlgorithm());
+        details.put("calibrated", calibrator.isCalibrated());
+        details.put("bcryptStrength", calibrator.getBcryptStrength());
+        details.put("argon2Iterations", calibrator.getArgon2Iterations());
+        details.put("targetLatencyMillis", calibrator.getTargetLatency().toMillis());
+        details.put("measuredLatencyMillis", calibrator.getMeasuredMillis());
+        details.put("calibratedAt", calibrator.getCalibratedAt());
+        return details;
+    }
+}
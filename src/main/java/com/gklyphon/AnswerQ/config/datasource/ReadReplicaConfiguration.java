@@ -0,0 +1,118 @@
+package com.gklyphon.AnswerQ.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration that sends read-only transactions to read replicas and everything else to the
+ * primary, enabled with {@code datasource.replicas.enabled}.
+ *
+ * <p>The application data source is a {@link LazyConnectionDataSourceProxy} over the primary
+ * pool. The transaction manager marks the connection of a {@code @Transactional(readOnly = true)}
+ * method read-only before its first statement, and the proxy then takes the physical
+ * connection from the {@link ReplicaRoutingDataSource} instead of the primary. Repository
+ * reads outside a service transaction are read-only transactions too.</p>
+ *
+ * <p>Replicas cannot be combined with the catalog second-level cache
+ * ({@code catalog.cache.enabled}): a read on a lagging replica would put stale forms,
+ * questions and answers in the shared cache, where they outlive the lag and are served to
+ * every request, including those sent with {@link ReadYourWrites#HEADER}. Startup fails when
+ * both are enabled.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    public ReadReplicaConfiguration(@Value("${catalog.cache.enabled:false}") boolean catalogCacheEnabled) {
+        if (catalogCacheEnabled) {
+            throw new IllegalStateException("datasource.replicas.enabled cannot be combined with catalog.cache.enabled: "
+                    + "replica reads would fill the shared catalog cache with stale data");
+        }
+    }
+
+    /**
+     * Creates the primary pool from the {@code spring.datasource} properties, as the
+     * auto-configured pool would be.
+     *
+     * @param properties The {@code spring.datasource} properties
+     * @return The primary connection pool
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * Creates one pool per replica URL, with the primary pool settings, and the data source
+     * that routes read-only connections between them.
+     *
+     * @param primaryDataSource The primary pool, used when no replica qualifies
+     * @param meterRegistry Registry for the replica lag gauges
+     * @param urls JDBC URLs of the replicas
+     * @param username Replica user
+     * @param password Replica password
+     * @param maximumPoolSize Maximum connections per replica
+     * @param maxLag Replication lag above which a replica is skipped
+     * @param connectionTimeout Maximum wait for a replica connection, also used for the lag check
+     * @return The data source for read-only connections
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, MeterRegistry meterRegistry,
+                                                             @Value("${datasource.replicas.urls}") List<String> urls,
+                                                             @Value("${datasource.replicas.username:${spring.datasource.username}}") String username,
+                                                             @Value("${datasource.replicas.password:${spring.datasource.password}}") String password,
+                                                             @Value("${datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+                                                             @Value("${datasource.replicas.max-lag:5s}") Duration maxLag,
+                                                             @Value("${datasource.replicas.connection-timeout:2s}") Duration connectionTimeout) {
+        List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setPoolName("replica-" + (i + 1));
+            config.setJdbcUrl(urls.get(i).trim());
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(maximumPoolSize);
+            config.setConnectionTimeout(connectionTimeout.toMillis());
+            config.setReadOnly(true);
+            // An unreachable replica must not stop startup; the lag check keeps reads off it
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag, connectionTimeout, meterRegistry);
+    }
+
+    /**
+     * Creates the application data source: primary connections, or replica connections for
+     * read-only transactions.
+     *
+     * @param primaryDataSource The primary pool
+     * @param replicaRoutingDataSource The data source for read-only connections
+     * @return The data source used by JPA, JDBC and Flyway
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+}
@@ -0,0 +1,65 @@
+package com.gklyphon.AnswerQ.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Per-thread flag that sends read-only transactions to the primary instead of a replica.
+ *
+ * <p>Set by {@link ReadYourWritesFilter} for requests that carry the {@value #HEADER} header,
+ * typically a read issued right after the client's own write, which a lagging replica may not
+ * have applied yet, and by {@link #onPrimary(Supplier)} around reads that must never be stale,
+ * such as the lookups behind the security caches.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public final class ReadYourWrites {
+
+    /** Request header that asks for reads from the primary. */
+    public static final String HEADER = "X-Read-Your-Writes";
+
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    /**
+     * Checks whether reads on the current thread must see the latest writes.
+     *
+     * @return true if reads must go to the primary, false otherwise
+     */
+    public static boolean isRequested() {
+        return Boolean.TRUE.equals(REQUESTED.get());
+    }
+
+    /**
+     * Runs a read with every read-only transaction it opens sent to the primary. Only reads
+     * that open their own transaction are affected; one already bound to a replica connection
+     * keeps it.
+     *
+     * @param read The read to run
+     * @return The result of the read
+     * @param <T> The result type
+     */
+    public static <T> T onPrimary(Supplier<T> read) {
+        Boolean previous = REQUESTED.get();
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            if (previous == null) {
+                REQUESTED.remove();
+            } else {
+                REQUESTED.set(previous);
+            }
+        }
+    }
+
+    static void request() {
+        REQUESTED.set(Boolean.TRUE);
+    }
+
+    static void clear() {
+        REQUESTED.remove();
+    }
+}
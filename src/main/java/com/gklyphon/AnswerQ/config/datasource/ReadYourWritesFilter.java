@@ -0,0 +1,49 @@
+package com.gklyphon.AnswerQ.config.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Filter that routes every read of a request to the primary when the request carries
+ * {@code X-Read-Your-Writes: true}.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+@ConditionalOnProperty(name = "datasource.replicas.enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    /**
+     * Sets the read-your-writes flag for the duration of the request.
+     *
+     * @param request The HTTP request
+     * @param response The HTTP response
+     * @param filterChain The filter chain
+     * @throws ServletException If a servlet error occurs
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        if (!Boolean.parseBoolean(request.getHeader(ReadYourWrites.HEADER))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        ReadYourWrites.request();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clear();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.gklyphon.AnswerQ.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Data source for read-only connections: picks a replica pool round-robin, skipping replicas
+ * whose replication lag exceeds the tolerance, and falls back to the primary when no replica
+ * qualifies or the current request asked for {@link ReadYourWrites}.
+ *
+ * <p>Lag is sampled on a fixed interval rather than per connection. A replica that has
+ * replayed everything it received reports no lag even when the primary has been idle; a
+ * replica that cannot be reached is treated as lagging until the next successful check.
+ * Replicas start as lagging, so reads stay on the primary until the first check.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String LAG_SQL = "select case when not pg_is_in_recovery() "
+            + "or pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 "
+            + "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    private final Map<String, HikariDataSource> replicas;
+    private final double maxLagSeconds;
+    private final int lagCheckTimeoutSeconds;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile List<String> eligible = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicas, Duration maxLag,
+                                    Duration lagCheckTimeout, MeterRegistry meterRegistry) {
+        this.replicas = new LinkedHashMap<>();
+        replicas.forEach(replica -> this.replicas.put(replica.getPoolName(), replica));
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.lagCheckTimeoutSeconds = (int) Math.max(1, lagCheckTimeout.toSeconds());
+
+        setTargetDataSources(new LinkedHashMap<>(this.replicas));
+        setDefaultTargetDataSource(primary);
+
+        for (String name : this.replicas.keySet()) {
+            Gauge.builder("datasource.replica.lag", lagSeconds, lags -> lags.getOrDefault(name, Double.NaN))
+                    .description("Replication lag of a read replica; NaN while it cannot be reached")
+                    .baseUnit("seconds")
+                    .tag("replica", name)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Picks the replica for the next read-only connection.
+     *
+     * @return The replica pool name, or null to use the primary
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadYourWrites.isRequested()) {
+            return null;
+        }
+        List<String> candidates = eligible;
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Samples the lag of every replica and updates the ones eligible for reads.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval:5s}")
+    public void checkLag() {
+        List<String> withinTolerance = new ArrayList<>(replicas.size());
+        for (Map.Entry<String, HikariDataSource> replica : replicas.entrySet()) {
+            String name = replica.getKey();
+            try {
+                double lag = measureLag(replica.getValue());
+                lagSeconds.put(name, lag);
+                if (lag <= maxLagSeconds) {
+                    withinTolerance.add(name);
+                } else {
+                    log.warn("Replica {} is {} s behind the primary, reading from the other replicas", name, lag);
+                }
+            } catch (SQLException ex) {
+                lagSeconds.remove(name);
+                log.warn("Replica {} cannot be reached, reading from the other replicas: {}", name, ex.getMessage());
+            }
+        }
+        eligible = List.copyOf(withinTolerance);
+    }
+
+    private double measureLag(DataSource replica) throws SQLException {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(lagCheckTimeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery(LAG_SQL)) {
+                resultSet.next();
+                return resultSet.getDouble(1);
+            }
+        }
+    }
+
+    /**
+     * Closes the replica pools. The primary is closed by its own bean.
+     */
+    @Override
+    public void close() {
+        replicas.values().forEach(HikariDataSource::close);
+    }
+}
@@ -1,15 +1,18 @@
 package com.gklyphon.AnswerQ.config.email;
 
+import com.gklyphon.AnswerQ.services.email.SmtpTransportPool;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.JavaMailSenderImpl;
 
+import java.time.Duration;
 import java.util.Properties;
 
 /**
- * Configuration class for setting up and providing a JavaMailSender bean.
+ * Configuration class for setting up and providing a JavaMailSender bean
+ * and the pool of SMTP connections built on top of it.
  *
  * @author JFCiscoHuerta
  * @since 2025-07-19
@@ -30,13 +33,25 @@ public class EmailConfiguration {
     @Value("${spring.mail.password}")
     private String emailPassword;
 
+    @Value("${spring.mail.properties.mail.debug:false}")
+    private boolean mailDebug;
+
+    @Value("${email.smtp.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${email.smtp.read-timeout:10s}")
+    private Duration readTimeout;
+
+    @Value("${email.smtp.write-timeout:10s}")
+    private Duration writeTimeout;
+
     /**
      * Creates and configures a JavaMailSender bean for sending emails.
      *
      * @return configured JavaMailSender instance
      */
     @Bean
-    public JavaMailSender javaMailSender() {
+    public JavaMailSenderImpl javaMailSender() {
         JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
         configureMailSender(mailSender);
         configureMailProperties(mailSender);
@@ -67,7 +82,33 @@ public class EmailConfiguration {
         props.put("mail.smtp.auth", SMTP_AUTH);
         props.put("mail.smtp.starttls.enable", STARTTLS_ENABLE);
         props.put("mail.smtp.ssl.trust", SSL_TRUST);
-        props.put("mail.debug", "true");
+        props.put("mail.debug", String.valueOf(mailDebug));
+        // JavaMail waits forever by default
+        props.put("mail.smtp.connectiontimeout", String.valueOf(connectTimeout.toMillis()));
+        props.put("mail.smtp.timeout", String.valueOf(readTimeout.toMillis()));
+        props.put("mail.smtp.writetimeout", String.valueOf(writeTimeout.toMillis()));
+    }
+
+    /**
+     * Creates the pool of persistent SMTP connections used to deliver emails.
+     *
+     * @param mailSender The configured mail sender, providing the session and credentials
+     * @param meterRegistry Registry for the pool metrics
+     * @param maxConnections Maximum number of open connections
+     * @param maxIdle Time after which an idle connection is closed
+     * @param maxMessagesPerConnection Messages sent before a connection is recycled
+     * @param borrowTimeout Maximum wait for a free connection
+     * @return configured SmtpTransportPool instance
+     */
+    @Bean(destroyMethod = "close")
+    public SmtpTransportPool smtpTransportPool(JavaMailSenderImpl mailSender, MeterRegistry meterRegistry,
+                                               @Value("${email.smtp-pool.max-connections:4}") int maxConnections,
+                                               @Value("${email.smtp-pool.max-idle:30s}") Duration maxIdle,
+                                               @Value("${email.smtp-pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                                               @Value("${email.smtp-pool.borrow-timeout:10s}") Duration borrowTimeout) {
+        return new SmtpTransportPool(mailSender.getSession(), MAIL_PROTOCOL, mailSender.getHost(), mailSender.getPort(),
+                mailSender.getUsername(), mailSender.getPassword(), maxConnections, maxIdle, maxMessagesPerConnection,
+                borrowTimeout, meterRegistry);
     }
 
 }
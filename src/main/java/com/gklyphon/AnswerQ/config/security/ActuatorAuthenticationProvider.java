@@ -0,0 +1,99 @@
+package com.gklyphon.AnswerQ.config.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication provider for the actuator/Prometheus basic-auth chain.
+ *
+ * <p>The configured credentials come from the environment, so there is no stored hash to
+ * protect and no reason to pay a BCrypt verification on every scrape. Instead the expected
+ * username and password are kept as HMAC-SHA256 values under a random per-boot key, and each
+ * request is verified with a constant-time comparison. Time spent authenticating scrapes is
+ * recorded in {@code actuator.auth.duration}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class ActuatorAuthenticationProvider implements AuthenticationProvider {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String ROLE_ACTUATOR = "ROLE_ACTUATOR";
+
+    private final SecretKeySpec key;
+    private final byte[] expectedUsername;
+    private final byte[] expectedPassword;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    public ActuatorAuthenticationProvider(String username, String password, MeterRegistry meterRegistry) {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        this.key = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.expectedUsername = mac(username);
+        this.expectedPassword = mac(password);
+        this.successTimer = authTimer(meterRegistry, "success");
+        this.failureTimer = authTimer(meterRegistry, "failure");
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        long start = System.nanoTime();
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        String password = credentials != null ? credentials.toString() : "";
+
+        boolean usernameMatches = MessageDigest.isEqual(expectedUsername, mac(username));
+        boolean passwordMatches = MessageDigest.isEqual(expectedPassword, mac(password));
+        if (!(usernameMatches & passwordMatches)) {
+            failureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw new BadCredentialsException("Invalid actuator credentials");
+        }
+        successTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return UsernamePasswordAuthenticationToken.authenticated(
+                username, null, List.of(new SimpleGrantedAuthority(ROLE_ACTUATOR)));
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    /**
+     * Computes the HMAC of a value under the per-boot key.
+     *
+     * @param value Value to authenticate
+     * @return HMAC bytes
+     */
+    private byte[] mac(String value) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", ex);
+        }
+    }
+
+    private static Timer authTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("actuator.auth.duration")
+                .description("Time spent authenticating actuator and Prometheus requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,80 @@
+package com.gklyphon.AnswerQ.config.security;
+
+import com.gklyphon.AnswerQ.exceptions.exception.TooManyRequestsException;
+import com.gklyphon.AnswerQ.services.security.AuthRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Filter that rate limits the public {@code /auth} endpoints by client IP before any
+ * password hashing or mail sending happens.
+ *
+ * <p>The client IP is {@link HttpServletRequest#getRemoteAddr()}. By default that is the TCP
+ * peer, which is right when clients connect to the app directly. Behind a reverse proxy every
+ * request would share the proxy's address, so {@code server.forward-headers-strategy} must be
+ * set to {@code native} to read {@code X-Forwarded-For} from trusted proxies instead.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class AuthRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PREFIX = "/auth/";
+    private static final Set<String> LIMITED_ENDPOINTS = Set.of("login", "signup", "verify", "resend", "refresh");
+
+    private final HandlerExceptionResolver handlerExceptionResolver;
+    private final AuthRateLimiter authRateLimiter;
+
+    public AuthRateLimitFilter(HandlerExceptionResolver handlerExceptionResolver, AuthRateLimiter authRateLimiter) {
+        this.handlerExceptionResolver = handlerExceptionResolver;
+        this.authRateLimiter = authRateLimiter;
+    }
+
+    /**
+     * Rejects the request with HTTP 429 when the client IP has no tokens left for the endpoint.
+     *
+     * @param request The HTTP request
+     * @param response The HTTP response
+     * @param filterChain The filter chain
+     * @throws ServletException If a servlet error occurs
+     * @throws IOException If an I/O error occurs
+     */
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        try {
+            authRateLimiter.checkIp(endpointOf(request), request.getRemoteAddr());
+        } catch (TooManyRequestsException ex) {
+            handlerExceptionResolver.resolveException(request, response, null, ex);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Only POST requests to the limited {@code /auth} endpoints are filtered.
+     *
+     * @param request The HTTP request
+     * @return true if the request is not rate limited
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod()) || !LIMITED_ENDPOINTS.contains(endpointOf(request));
+    }
+
+    private static String endpointOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith(AUTH_PREFIX) ? path.substring(AUTH_PREFIX.length()) : "";
+    }
+}
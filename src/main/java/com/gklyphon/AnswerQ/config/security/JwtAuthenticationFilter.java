@@ -1,10 +1,15 @@
 package com.gklyphon.AnswerQ.config.security;
 
+import com.gklyphon.AnswerQ.services.jwt.JwtPrincipal;
 import com.gklyphon.AnswerQ.services.jwt.JwtService;
+import com.gklyphon.AnswerQ.services.jwt.TokenRevocationService;
+import com.gklyphon.AnswerQ.services.jwt.TokenVersionService;
+import com.gklyphon.AnswerQ.services.jwt.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -15,6 +20,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
+import java.time.Instant;
 
 /**
  * JWT Authentication Filter that processes incoming requests and validates JWT tokens.
@@ -30,11 +36,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final HandlerExceptionResolver handlerExceptionResolver;
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
+    private final TokenRevocationService tokenRevocationService;
+    private final boolean statelessPrincipal;
 
-    public JwtAuthenticationFilter(HandlerExceptionResolver handlerExceptionResolver, JwtService jwtService, UserDetailsService userDetailsService) {
+    public JwtAuthenticationFilter(HandlerExceptionResolver handlerExceptionResolver, JwtService jwtService,
+                                   UserDetailsService userDetailsService, TokenVersionService tokenVersionService,
+                                   TokenRevocationService tokenRevocationService,
+                                   @Value("${security.jwt.stateless-principal:false}") boolean statelessPrincipal) {
         this.handlerExceptionResolver = handlerExceptionResolver;
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
+        this.tokenVersionService = tokenVersionService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.statelessPrincipal = statelessPrincipal;
     }
 
     /**
@@ -58,9 +73,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         try {
             final String jwt = authHeader.substring(BEARER_PREFIX.length());
-            final String userEmail = jwtService.extractUsername(jwt);
-            if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                authenticateUserFromToken(request, jwt, userEmail);
+            final VerifiedToken token = jwtService.verifyToken(jwt);
+            if (token.getSubject() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                authenticateUserFromToken(request, token);
             }
             filterChain.doFilter(request, response);
         } catch (Exception ex) {
@@ -72,21 +87,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     /**
      * Authenticates the user if the JWT token is valid.
      *
-     * @param request   The HTTP request
-     * @param jwt       The JWT token
-     * @param userEmail The user email extracted from the token
+     * <p>With stateless principals enabled, the principal is built from the verified claims and
+     * revocation is checked against the cached token version. Otherwise the user is loaded
+     * through the {@link UserDetailsService}. Tokens on the revocation deny list are ignored.</p>
+     *
+     * @param request The HTTP request
+     * @param token   The already verified JWT token
      */
-    private void authenticateUserFromToken(HttpServletRequest request, String jwt, String userEmail) {
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-        if (jwtService.isTokenValid(jwt, userDetails)) {
-            var authenticationToken = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-            );
-            authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+    private void authenticateUserFromToken(HttpServletRequest request, VerifiedToken token) {
+        if (tokenRevocationService.isRevoked(token)) {
+            return;
+        }
+        if (statelessPrincipal) {
+            if (!token.isExpired(Instant.now()) && tokenVersionService.isCurrent(token)) {
+                setAuthentication(request, JwtPrincipal.from(token));
+            }
+            return;
         }
+        UserDetails userDetails = userDetailsService.loadUserByUsername(token.getSubject());
+        if (jwtService.isTokenValid(token, userDetails)) {
+            setAuthentication(request, userDetails);
+        }
+    }
+
+    /**
+     * Stores the authenticated principal in the security context.
+     *
+     * @param request     The HTTP request
+     * @param userDetails The authenticated principal
+     */
+    private void setAuthentication(HttpServletRequest request, UserDetails userDetails) {
+        var authenticationToken = new UsernamePasswordAuthenticationToken(
+                userDetails,
+                null,
+                userDetails.getAuthorities()
+        );
+        authenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authenticationToken);
     }
 
 }
@@ -1,5 +1,7 @@
 package com.gklyphon.AnswerQ.config.security;
 
+import com.gklyphon.AnswerQ.config.datasource.ReadYourWrites;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,17 +9,13 @@ import org.springframework.core.annotation.Order;
 import org.springframework.core.env.Environment;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 
-import org.springframework.security.core.userdetails.User;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
@@ -38,10 +36,13 @@ public class SecurityConfig {
 
     private final AuthenticationProvider authenticationProvider;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final AuthRateLimitFilter authRateLimitFilter;
 
-    public SecurityConfig(AuthenticationProvider authenticationProvider, JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(AuthenticationProvider authenticationProvider, JwtAuthenticationFilter jwtAuthenticationFilter,
+                          AuthRateLimitFilter authRateLimitFilter) {
         this.authenticationProvider = authenticationProvider;
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.authRateLimitFilter = authRateLimitFilter;
     }
 
     private final String[] PUBLIC_ENDPOINTS = {"/auth/**"};
@@ -50,19 +51,6 @@ public class SecurityConfig {
 
     private final String[] SWAGGER_ENDPOINTS = {"/v3/api-docs/**","/swagger-ui.html","/swagger-ui/**"};
 
-    @Bean
-    UserDetailsService actuatorUsers(PasswordEncoder encoder, Environment environment) {
-        String prometheusPwd = environment.getRequiredProperty("ACTUATOR_PASSWORD");
-        String prometheusUsername = environment.getRequiredProperty("ACTUATOR_USERNAME");
-
-        UserDetails prometheusUser = User.withUsername(prometheusUsername)
-                .password(encoder.encode(prometheusPwd))
-                .roles("ACTUATOR")
-                .build();
-
-        return new InMemoryUserDetailsManager(prometheusUser);
-    }
-
     /**
      * Creates and configures the authentication manager.
      *
@@ -76,21 +64,30 @@ public class SecurityConfig {
     }
 
     /**
-     * Configures Actuator security filter chain.
+     * Configures Actuator security filter chain. Scrapes are authenticated by the
+     * {@link ActuatorAuthenticationProvider} instead of a BCrypt-backed user store.
      *
      * @param httpSecurity The HTTP security builder
+     * @param environment The environment holding the actuator credentials
+     * @param meterRegistry Registry for the scrape authentication metrics
      * @return Configured SecurityFilterChain
      * @throws Exception If configuration fails
      */
     @Bean
     @Order(1)
-    SecurityFilterChain actuatorSecurity(HttpSecurity httpSecurity) throws Exception {
+    SecurityFilterChain actuatorSecurity(HttpSecurity httpSecurity, Environment environment, MeterRegistry meterRegistry) throws Exception {
+        ActuatorAuthenticationProvider actuatorAuthenticationProvider = new ActuatorAuthenticationProvider(
+                environment.getRequiredProperty("ACTUATOR_USERNAME"),
+                environment.getRequiredProperty("ACTUATOR_PASSWORD"),
+                meterRegistry);
+
         return httpSecurity
                 .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .authenticationManager(new ProviderManager(actuatorAuthenticationProvider))
                 .csrf(AbstractHttpConfigurer::disable)
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(EndpointRequest.to("health", "prometheus")).hasRole("ACTUATOR")
+                        .requestMatchers(EndpointRequest.to("health", "prometheus", "passwordhashing")).hasRole("ACTUATOR")
                         .anyRequest().denyAll()
                 )
                 .httpBasic(httpBasic -> {})
@@ -116,7 +113,8 @@ public class SecurityConfig {
         ).sessionManagement(manager -> manager.sessionCreationPolicy(
                 SessionCreationPolicy.STATELESS)
         ).authenticationProvider(authenticationProvider)
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(authRateLimitFilter, JwtAuthenticationFilter.class
         ).cors( (cors) -> cors
                 .configurationSource(corsConfiguration())
         ).csrf(AbstractHttpConfigurer::disable)
@@ -133,7 +131,7 @@ public class SecurityConfig {
 
         final List<String> ALLOWED_ORIGINS = List.of("http://localhost:4200");
         final List<String> ALLOWED_METHODS = List.of("GET","POST","PUT","DELETE","OPTIONS");
-        final List<String> ALLOWED_HEADERS = List.of("Authorization","Content-Type");
+        final List<String> ALLOWED_HEADERS = List.of("Authorization","Content-Type", ReadYourWrites.HEADER);
 
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(ALLOWED_ORIGINS);
@@ -2,7 +2,10 @@ package com.gklyphon.AnswerQ.controllers;
 
 import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
 import com.gklyphon.AnswerQ.models.Answer;
+import com.gklyphon.AnswerQ.responses.CursorPage;
 import com.gklyphon.AnswerQ.services.IAnswerService;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
+import com.gklyphon.AnswerQ.services.pagination.CountedPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -37,15 +40,23 @@ public class AnswerRestController {
      * @param id ID of the question.
      * @param page Page number for pagination.
      * @param size Page size for pagination.
+     * @param count How the total is counted: exact, none or estimated (default: exact).
+     * @param after Cursor from a previous response; switches to keyset pagination (empty for the first page).
      * @return Paged list of answers.
      */
     @GetMapping("/by-question/{id}")
     public ResponseEntity<?> getAllByQuestion(
             @PathVariable Long id,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "after", required = false) String after) {
+        if (after != null) {
+            return ResponseEntity.ok(CursorPage.of(
+                    answerService.findAllByQuestion_IdAfter(id, CursorPage.decode(after), PageRequest.of(0, size)), Answer::getId));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPagedModel(answerService.findAllByQuestion_Id(id, pageable)));
+        return buildPagedModel(answerService.findAllByQuestion_Id(id, pageable, CountMode.parse(count)));
     }
 
     /**
@@ -53,14 +64,16 @@ public class AnswerRestController {
      *
      * @param page Page number.
      * @param size Number of items per page.
+     * @param count How the total is counted: exact, none or estimated (default: exact).
      * @return Paged list of answers.
      */
     @GetMapping
     public ResponseEntity<?> getAll(
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count) {
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPagedModel(answerService.findAll(pageable)));
+        return buildPagedModel(answerService.findAll(pageable, CountMode.parse(count)));
     }
 
     /**
@@ -113,13 +126,16 @@ public class AnswerRestController {
     }
 
     /**
-     * Utility method to convert a page of answers into a HATEOAS-compatible model.
+     * Utility method to convert a page of answers into a HATEOAS-compatible response,
+     * with headers that describe how the total was counted.
      *
      * @param page Page of answers.
-     * @return HATEOAS paged model.
+     * @return Response with the HATEOAS paged model.
      */
-    private PagedModel<EntityModel<Answer>> buildPagedModel(Page<Answer> page) {
-        return pagedResourcesAssembler.toModel(page);
+    private ResponseEntity<PagedModel<EntityModel<Answer>>> buildPagedModel(Page<Answer> page) {
+        return ResponseEntity.ok()
+                .headers(CountedPage.headers(page))
+                .body(pagedResourcesAssembler.toModel(page));
     }
 
 }
@@ -1,13 +1,18 @@
 package com.gklyphon.AnswerQ.controllers;
 
 import com.gklyphon.AnswerQ.dtos.LoginUserDto;
+import com.gklyphon.AnswerQ.dtos.RefreshTokenDto;
 import com.gklyphon.AnswerQ.dtos.RegisterUserDto;
 import com.gklyphon.AnswerQ.dtos.ResponseUserDto;
 import com.gklyphon.AnswerQ.dtos.VerifyUserDto;
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidCredentialsException;
+import com.gklyphon.AnswerQ.exceptions.exception.TooManyRequestsException;
 import com.gklyphon.AnswerQ.models.User;
 import com.gklyphon.AnswerQ.responses.LoginResponse;
 import com.gklyphon.AnswerQ.services.jwt.JwtService;
 import com.gklyphon.AnswerQ.services.security.AuthenticationService;
+import com.gklyphon.AnswerQ.services.security.RefreshTokenService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -22,12 +27,16 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/auth")
 public class AuthRestController {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final JwtService jwtService;
     private final AuthenticationService authenticationService;
+    private final RefreshTokenService refreshTokenService;
 
-    public AuthRestController(JwtService jwtService, AuthenticationService authenticationService) {
+    public AuthRestController(JwtService jwtService, AuthenticationService authenticationService, RefreshTokenService refreshTokenService) {
         this.jwtService = jwtService;
         this.authenticationService = authenticationService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     /**
@@ -46,14 +55,45 @@ public class AuthRestController {
      * Authenticates a user and generates a JWT token.
      *
      * @param loginUserDto DTO containing user login credentials
-     * @return ResponseEntity containing the JWT token and its expiration time
+     * @return ResponseEntity containing the JWT token, the refresh token and their expiration times
      */
     @PostMapping("/login")
     public ResponseEntity<LoginResponse> login(@RequestBody LoginUserDto loginUserDto) {
         User authenticatedUser = authenticationService.authenticate(loginUserDto);
-        String jwtToken = jwtService.generateToken(authenticatedUser);
-        LoginResponse loginResponse = new LoginResponse(jwtToken, jwtService.getJwtExpiration(), authenticatedUser.isEnabled());
-        return ResponseEntity.ok(loginResponse);
+        String refreshToken = refreshTokenService.issue(authenticatedUser);
+        return ResponseEntity.ok(buildLoginResponse(authenticatedUser, refreshToken));
+    }
+
+    /**
+     * Issues a new access token from a refresh token. The refresh token is rotated and the
+     * presented one can no longer be used.
+     *
+     * @param refreshTokenDto DTO containing the refresh token
+     * @return ResponseEntity containing the new JWT token, the new refresh token and their expiration times
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@RequestBody RefreshTokenDto refreshTokenDto) {
+        RefreshTokenService.RotatedRefreshToken rotated = authenticationService.refresh(refreshTokenDto);
+        return ResponseEntity.ok(buildLoginResponse(rotated.getUser(), rotated.getRefreshToken()));
+    }
+
+    /**
+     * Logs out the current session. The access token is revoked until it expires and the
+     * refresh token family, if given, can no longer be used.
+     *
+     * @param authorization The Authorization header with the bearer token
+     * @param refreshTokenDto Optional DTO containing the refresh token of the session
+     * @return ResponseEntity with no content
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+                                       @RequestBody(required = false) RefreshTokenDto refreshTokenDto) {
+        if (!authorization.startsWith(BEARER_PREFIX)) {
+            throw new InvalidCredentialsException("Invalid token");
+        }
+        authenticationService.logout(authorization.substring(BEARER_PREFIX.length()),
+                refreshTokenDto != null ? refreshTokenDto.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
     }
 
     /**
@@ -67,6 +107,8 @@ public class AuthRestController {
         try {
             authenticationService.verifyUser(verifyUserDto);
             return ResponseEntity.ok().build();
+        } catch (TooManyRequestsException ex) {
+            throw ex;
         } catch (RuntimeException ex) {
             return ResponseEntity.badRequest().body(ex.getMessage());
         }
@@ -83,9 +125,24 @@ public class AuthRestController {
         try {
             authenticationService.resendVerificationCode(email);
             return ResponseEntity.ok("Verification code sent");
+        } catch (TooManyRequestsException ex) {
+            throw ex;
         } catch (RuntimeException ex) {
             return ResponseEntity.badRequest().body(ex.getMessage());
         }
     }
 
+    /**
+     * Builds the token response for an authenticated user.
+     *
+     * @param user The authenticated user
+     * @param refreshToken The refresh token issued to the user
+     * @return The login response
+     */
+    private LoginResponse buildLoginResponse(User user, String refreshToken) {
+        String jwtToken = jwtService.generateToken(user);
+        return new LoginResponse(jwtToken, jwtService.getJwtExpiration(), user.isEnabled(),
+                refreshToken, refreshTokenService.getRefreshExpiration());
+    }
+
 }
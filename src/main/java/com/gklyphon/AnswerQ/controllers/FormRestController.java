@@ -1,8 +1,12 @@
 package com.gklyphon.AnswerQ.controllers;
 
 import com.gklyphon.AnswerQ.dtos.ResponseFormDto;
+import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
 import com.gklyphon.AnswerQ.models.Form;
+import com.gklyphon.AnswerQ.responses.CursorPage;
 import com.gklyphon.AnswerQ.services.IFormService;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
+import com.gklyphon.AnswerQ.services.pagination.CountedPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,14 +40,16 @@ public class FormRestController {
      *
      * @param page Page number (default is 0).
      * @param size Number of elements per page (default is 10).
+     * @param count How the total is counted: exact, none or estimated (default: exact).
      * @return Paginated list of forms.
      */
     @GetMapping
     public ResponseEntity<?> getAll(
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count) {
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPageModels(formService.findAll(pageable)));
+        return buildPageModels(formService.findAll(pageable, CountMode.parse(count)));
     }
 
     /**
@@ -52,15 +58,35 @@ public class FormRestController {
      * @param id User ID.
      * @param page Page number (default is 0).
      * @param size Number of elements per page (default is 10).
+     * @param count How the total is counted: exact, none or estimated (default: exact).
+     * @param after Cursor from a previous response; switches to keyset pagination (empty for the first page).
      * @return Paginated list of forms associated with the given user.
      */
     @GetMapping("/user/{id}")
     public ResponseEntity<?> getAllByUser(
             @PathVariable Long id,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "after", required = false) String after) {
+        if (after != null) {
+            return ResponseEntity.ok(CursorPage.of(
+                    formService.findAllByUser_IdAfter(id, CursorPage.decode(after), PageRequest.of(0, size)), ResponseFormDto::getId));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPageModels(formService.findAllByUser_Id(id, pageable)));
+        return buildPageModels(formService.findAllByUser_Id(id, pageable, CountMode.parse(count)));
+    }
+
+    /**
+     * Retrieves a form with its questions and answer options in a single response.
+     *
+     * @param id Form ID.
+     * @return The form tree, ready to display.
+     * @throws ElementNotFoundException if the form does not exist.
+     */
+    @GetMapping("/{id}/render")
+    public ResponseEntity<?> renderForm(@PathVariable Long id) throws ElementNotFoundException {
+        return ResponseEntity.ok(formService.findRenderById(id));
     }
 
     /**
@@ -100,13 +126,16 @@ public class FormRestController {
     }
 
     /**
-     * Utility method to convert a page of answers into a HATEOAS-compatible model.
+     * Utility method to convert a page of answers into a HATEOAS-compatible response,
+     * with headers that describe how the total was counted.
      *
      * @param page Page of answers.
-     * @return HATEOAS paged model.
+     * @return Response with the HATEOAS paged model.
      */
-    private PagedModel<EntityModel<ResponseFormDto>> buildPageModels(Page<ResponseFormDto> page) {
-        return pagedResourcesAssembler.toModel(page);
+    private ResponseEntity<PagedModel<EntityModel<ResponseFormDto>>> buildPageModels(Page<ResponseFormDto> page) {
+        return ResponseEntity.ok()
+                .headers(CountedPage.headers(page))
+                .body(pagedResourcesAssembler.toModel(page));
     }
 
 }
@@ -2,7 +2,10 @@ package com.gklyphon.AnswerQ.controllers;
 
 import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
 import com.gklyphon.AnswerQ.models.Question;
+import com.gklyphon.AnswerQ.responses.CursorPage;
 import com.gklyphon.AnswerQ.services.IQuestionService;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
+import com.gklyphon.AnswerQ.services.pagination.CountedPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -36,14 +39,16 @@ public class QuestionRestController {
      *
      * @param page Page number (0-indexed, default: 0).
      * @param size Number of elements per page (default: 10).
+     * @param count How the total is counted: exact, none or estimated (default: exact).
      * @return Paginated list of all questions.
      */
     @GetMapping
     public ResponseEntity<?> getAllQuestions(
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count) {
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPageModel(questionService.findAll(pageable)));
+        return buildPageModel(questionService.findAll(pageable, CountMode.parse(count)));
     }
 
     /**
@@ -52,15 +57,23 @@ public class QuestionRestController {
      * @param id Form ID to filter questions.
      * @param page Page number (default: 0).
      * @param size Page size (default: 10).
+     * @param count How the total is counted: exact, none or estimated (default: exact).
+     * @param after Cursor from a previous response; switches to keyset pagination (empty for the first page).
      * @return Paginated list of questions for the specified form.
      */
     @GetMapping("/by-form/{id}")
     public ResponseEntity<?> getAllQuestionsByForm(
             @PathVariable Long id,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "after", required = false) String after) {
+        if (after != null) {
+            return ResponseEntity.ok(CursorPage.of(
+                    questionService.findAllByForm_IdAfter(id, CursorPage.decode(after), PageRequest.of(0, size)), Question::getId));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPageModel(questionService.findAllByForm_Id(id, pageable)));
+        return buildPageModel(questionService.findAllByForm_Id(id, pageable, CountMode.parse(count)));
     }
 
     /**
@@ -115,13 +128,16 @@ public class QuestionRestController {
     }
 
     /**
-     * Utility method to convert a page of answers into a HATEOAS-compatible model.
+     * Utility method to convert a page of answers into a HATEOAS-compatible response,
+     * with headers that describe how the total was counted.
      *
      * @param page Page of answers.
-     * @return HATEOAS paged model.
+     * @return Response with the HATEOAS paged model.
      */
-    private PagedModel<EntityModel<Question>> buildPageModel(Page<Question> page) {
-        return pagedResourcesAssembler.toModel(page);
+    private ResponseEntity<PagedModel<EntityModel<Question>>> buildPageModel(Page<Question> page) {
+        return ResponseEntity.ok()
+                .headers(CountedPage.headers(page))
+                .body(pagedResourcesAssembler.toModel(page));
     }
 
 }
@@ -1,8 +1,17 @@
 package com.gklyphon.AnswerQ.controllers;
 
+import com.gklyphon.AnswerQ.dtos.FormSubmissionDto;
 import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidCredentialsException;
 import com.gklyphon.AnswerQ.models.UserAnswer;
+import com.gklyphon.AnswerQ.responses.CursorPage;
 import com.gklyphon.AnswerQ.services.IUserAnswerService;
+import com.gklyphon.AnswerQ.services.ingest.UserAnswerIngestService;
+import com.gklyphon.AnswerQ.services.jwt.JwtPrincipal;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
+import com.gklyphon.AnswerQ.services.pagination.CountedPage;
+import com.gklyphon.AnswerQ.services.security.UserSnapshot;
+import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -10,9 +19,14 @@ import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 /**
  * REST controller for managing {@link UserAnswer} entities.
  *
@@ -24,10 +38,13 @@ import org.springframework.web.bind.annotation.*;
 public class UserAnswerRestController {
 
     private final IUserAnswerService userAnswerService;
+    private final UserAnswerIngestService userAnswerIngestService;
     private final PagedResourcesAssembler<UserAnswer> pagedResourcesAssembler;
 
-    public UserAnswerRestController(IUserAnswerService userAnswerService, PagedResourcesAssembler<UserAnswer> pagedResourcesAssembler) {
+    public UserAnswerRestController(IUserAnswerService userAnswerService, UserAnswerIngestService userAnswerIngestService,
+                                    PagedResourcesAssembler<UserAnswer> pagedResourcesAssembler) {
         this.userAnswerService = userAnswerService;
+        this.userAnswerIngestService = userAnswerIngestService;
         this.pagedResourcesAssembler = pagedResourcesAssembler;
     }
 
@@ -36,14 +53,16 @@ public class UserAnswerRestController {
      *
      * @param page Page number (default: 0).
      * @param size Page size (default: 10).
+     * @param count How the total is counted: exact, none or estimated (default: exact).
      * @return Paginated list of all user answers.
      */
     @GetMapping
     public ResponseEntity<?> getAllUserAnswers(
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count) {
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPageResponse(userAnswerService.findAll(pageable)));
+        return buildPageResponse(userAnswerService.findAll(pageable, CountMode.parse(count)));
     }
 
     /**
@@ -69,6 +88,35 @@ public class UserAnswerRestController {
         return ResponseEntity.status(HttpStatus.CREATED).body(userAnswerService.save(userAnswer));
     }
 
+    /**
+     * Submits every answer of the authenticated user to a form in a single request.
+     *
+     * @param id Form ID.
+     * @param submission The answers, one per question.
+     * @param authentication The authenticated respondent.
+     * @return The number of stored answers.
+     * @throws ElementNotFoundException If the form does not exist.
+     */
+    @PostMapping("/by-form/{id}")
+    public ResponseEntity<?> submitForm(@PathVariable Long id, @Valid @RequestBody FormSubmissionDto submission,
+                                        Authentication authentication) throws ElementNotFoundException {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(userAnswerService.submit(id, currentUserId(authentication), submission));
+    }
+
+    /**
+     * Uploads user answers collected offline, as NDJSON with one user answer per line.
+     * Invalid lines are skipped and reported; the rest are stored, one committed chunk at a time.
+     *
+     * @param body The NDJSON request body.
+     * @return The upload report with the errors of each rejected line.
+     * @throws IOException If the body cannot be read.
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> bulkUpload(InputStream body) throws IOException {
+        return ResponseEntity.ok(userAnswerIngestService.ingest(body));
+    }
+
     /**
      * Updates an existing user answer.
      *
@@ -101,15 +149,23 @@ public class UserAnswerRestController {
      * @param id Form ID.
      * @param page Page number (default: 0).
      * @param size Page size (default: 10).
+     * @param count How the total is counted: exact, none or estimated (default: exact).
+     * @param after Cursor from a previous response; switches to keyset pagination (empty for the first page).
      * @return Paginated list of user answers.
      */
     @GetMapping("/by-form/{id}")
     public ResponseEntity<?> getAllByFormId(
             @PathVariable Long id,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "after", required = false) String after) {
+        if (after != null) {
+            return ResponseEntity.ok(CursorPage.of(
+                    userAnswerService.findAllByFormAfter(id, CursorPage.decode(after), PageRequest.of(0, size)), UserAnswer::getId));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPageResponse(userAnswerService.findAllByForm(id, pageable)));
+        return buildPageResponse(userAnswerService.findAllByForm(id, pageable, CountMode.parse(count)));
     }
 
     /**
@@ -118,15 +174,23 @@ public class UserAnswerRestController {
      * @param id User ID.
      * @param page Page number (default: 0).
      * @param size Page size (default: 10).
+     * @param count How the total is counted: exact, none or estimated (default: exact).
+     * @param after Cursor from a previous response; switches to keyset pagination (empty for the first page).
      * @return Paginated list of user answers.
      */
     @GetMapping("/by-user/{id}")
     public ResponseEntity<?> getAllByUserId(
             @PathVariable Long id,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "after", required = false) String after) {
+        if (after != null) {
+            return ResponseEntity.ok(CursorPage.of(
+                    userAnswerService.findAllByUserAfter(id, CursorPage.decode(after), PageRequest.of(0, size)), UserAnswer::getId));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPageResponse(userAnswerService.findAllByUser(id, pageable)));
+        return buildPageResponse(userAnswerService.findAllByUser(id, pageable, CountMode.parse(count)));
     }
 
     /**
@@ -135,15 +199,23 @@ public class UserAnswerRestController {
      * @param id Question ID.
      * @param page Page number (default: 0).
      * @param size Page size (default: 10).
+     * @param count How the total is counted: exact, none or estimated (default: exact).
+     * @param after Cursor from a previous response; switches to keyset pagination (empty for the first page).
      * @return Paginated list of user answers.
      */
     @GetMapping("/by-question/{id}")
     public ResponseEntity<?> getAllByQuestionId(
             @PathVariable Long id,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "after", required = false) String after) {
+        if (after != null) {
+            return ResponseEntity.ok(CursorPage.of(
+                    userAnswerService.findAllByQuestionAfter(id, CursorPage.decode(after), PageRequest.of(0, size)), UserAnswer::getId));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPageResponse(userAnswerService.findAllByQuestion(id, pageable)));
+        return buildPageResponse(userAnswerService.findAllByQuestion(id, pageable, CountMode.parse(count)));
     }
 
     /**
@@ -152,25 +224,53 @@ public class UserAnswerRestController {
      * @param id Answer ID.
      * @param page Page number (default: 0).
      * @param size Page size (default: 10).
+     * @param count How the total is counted: exact, none or estimated (default: exact).
+     * @param after Cursor from a previous response; switches to keyset pagination (empty for the first page).
      * @return Paginated list of user answers.
      */
     @GetMapping("/by-answer/{id}")
     public ResponseEntity<?> getAllByAnswerId(
             @PathVariable Long id,
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size) {
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "after", required = false) String after) {
+        if (after != null) {
+            return ResponseEntity.ok(CursorPage.of(
+                    userAnswerService.findAllByAnswerAfter(id, CursorPage.decode(after), PageRequest.of(0, size)), UserAnswer::getId));
+        }
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(buildPageResponse(userAnswerService.findAllByAnswer(id, pageable)));
+        return buildPageResponse(userAnswerService.findAllByAnswer(id, pageable, CountMode.parse(count)));
+    }
+
+    /**
+     * Gets the ID of the authenticated user, whichever principal type the JWT filter created.
+     *
+     * @param authentication The current authentication.
+     * @return The user ID.
+     */
+    private static Long currentUserId(Authentication authentication) {
+        Object principal = authentication != null ? authentication.getPrincipal() : null;
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return jwtPrincipal.getId();
+        }
+        if (principal instanceof UserSnapshot userSnapshot) {
+            return userSnapshot.getId();
+        }
+        throw new InvalidCredentialsException("Authentication required");
     }
 
     /**
-     * Utility method to convert a page of answers into a HATEOAS-compatible model.
+     * Utility method to convert a page of answers into a HATEOAS-compatible response,
+     * with headers that describe how the total was counted.
      *
      * @param page Page of answers.
-     * @return HATEOAS paged model.
+     * @return Response with the HATEOAS paged model.
      */
-    private PagedModel<EntityModel<UserAnswer>> buildPageResponse(Page<UserAnswer> page) {
-        return pagedResourcesAssembler.toModel(page);
+    private ResponseEntity<PagedModel<EntityModel<UserAnswer>>> buildPageResponse(Page<UserAnswer> page) {
+        return ResponseEntity.ok()
+                .headers(CountedPage.headers(page))
+                .body(pagedResourcesAssembler.toModel(page));
     }
 
 }
@@ -2,8 +2,18 @@ package com.gklyphon.AnswerQ.controllers;
 
 import com.gklyphon.AnswerQ.dtos.EmailUpdateDto;
 import com.gklyphon.AnswerQ.dtos.PasswordUpdateDto;
+import com.gklyphon.AnswerQ.dtos.ResponseFormDto;
 import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
+import com.gklyphon.AnswerQ.models.UserAnswer;
+import com.gklyphon.AnswerQ.responses.CursorPage;
+import com.gklyphon.AnswerQ.services.IFormService;
+import com.gklyphon.AnswerQ.services.IUserAnswerService;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
+import com.gklyphon.AnswerQ.services.pagination.CountedPage;
 import com.gklyphon.AnswerQ.services.profile.ProfileService;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,9 +30,19 @@ import org.springframework.web.bind.annotation.*;
 public class UserRestController {
 
     private final ProfileService profileService;
+    private final IFormService formService;
+    private final IUserAnswerService userAnswerService;
+    private final PagedResourcesAssembler<ResponseFormDto> formPagedResourcesAssembler;
+    private final PagedResourcesAssembler<UserAnswer> userAnswerPagedResourcesAssembler;
 
-    public UserRestController(ProfileService profileService) {
+    public UserRestController(ProfileService profileService, IFormService formService, IUserAnswerService userAnswerService,
+                              PagedResourcesAssembler<ResponseFormDto> formPagedResourcesAssembler,
+                              PagedResourcesAssembler<UserAnswer> userAnswerPagedResourcesAssembler) {
         this.profileService = profileService;
+        this.formService = formService;
+        this.userAnswerService = userAnswerService;
+        this.formPagedResourcesAssembler = formPagedResourcesAssembler;
+        this.userAnswerPagedResourcesAssembler = userAnswerPagedResourcesAssembler;
     }
 
     /**
@@ -37,6 +57,60 @@ public class UserRestController {
         return ResponseEntity.ok(profileService.userDetails(id));
     }
 
+    /**
+     * Retrieves the forms created by a user, page by page.
+     *
+     * @param id ID of the user
+     * @param page Page number (default: 0)
+     * @param size Page size (default: 10)
+     * @param count How the total is counted: exact, none or estimated (default: exact)
+     * @param after Cursor from a previous response; switches to keyset pagination (empty for the first page)
+     * @return ResponseEntity containing a page of the user's forms
+     */
+    @GetMapping("/{id}/forms")
+    public ResponseEntity<?> userForms(
+            @PathVariable Long id,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "after", required = false) String after) {
+        if (after != null) {
+            return ResponseEntity.ok(CursorPage.of(
+                    formService.findAllByUser_IdAfter(id, CursorPage.decode(after), PageRequest.of(0, size)), ResponseFormDto::getId));
+        }
+        Page<ResponseFormDto> forms = formService.findAllByUser_Id(id, PageRequest.of(page, size), CountMode.parse(count));
+        return ResponseEntity.ok()
+                .headers(CountedPage.headers(forms))
+                .body(formPagedResourcesAssembler.toModel(forms));
+    }
+
+    /**
+     * Retrieves the answers submitted by a user, page by page.
+     *
+     * @param id ID of the user
+     * @param page Page number (default: 0)
+     * @param size Page size (default: 10)
+     * @param count How the total is counted: exact, none or estimated (default: exact)
+     * @param after Cursor from a previous response; switches to keyset pagination (empty for the first page)
+     * @return ResponseEntity containing a page of the user's answers
+     */
+    @GetMapping("/{id}/user-answers")
+    public ResponseEntity<?> userAnswers(
+            @PathVariable Long id,
+            @RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "count", defaultValue = "exact") String count,
+            @RequestParam(name = "after", required = false) String after) {
+        if (after != null) {
+            return ResponseEntity.ok(CursorPage.of(
+                    userAnswerService.findAllByUserAfter(id, CursorPage.decode(after), PageRequest.of(0, size)), UserAnswer::getId));
+        }
+        Page<UserAnswer> userAnswers = userAnswerService.findAllByUser(id, PageRequest.of(page, size), CountMode.parse(count));
+        return ResponseEntity.ok()
+                .headers(CountedPage.headers(userAnswers))
+                .body(userAnswerPagedResourcesAssembler.toModel(userAnswers));
+    }
+
     /**
      * Updates the email address of a user.
      *
@@ -0,0 +1,38 @@
+package com.gklyphon.AnswerQ.dtos;
+
+import java.util.List;
+
+/**
+ * DTO with everything a client needs to display a form: the form, its questions and the
+ * answer options of each question. Which answers are correct is not included.
+ *
+ * @param id        The form ID.
+ * @param name      The form name.
+ * @param enabled   Whether the form accepts responses.
+ * @param questions The questions, ordered by ID.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public record FormRenderDto(Long id, String name, boolean enabled, List<QuestionRenderDto> questions) {
+
+    /**
+     * A question of a rendered form.
+     *
+     * @param id       The question ID.
+     * @param content  The question text.
+     * @param required Whether the question must be answered.
+     * @param answers  The answer options, ordered by ID.
+     */
+    public record QuestionRenderDto(Long id, String content, boolean required, List<AnswerRenderDto> answers) {
+    }
+
+    /**
+     * An answer option of a rendered question.
+     *
+     * @param id      The answer ID.
+     * @param content The answer text.
+     */
+    public record AnswerRenderDto(Long id, String content) {
+    }
+}
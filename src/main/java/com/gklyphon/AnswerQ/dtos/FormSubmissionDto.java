@@ -0,0 +1,27 @@
+package com.gklyphon.AnswerQ.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO carrying every answer of one respondent to one form.
+ *
+ * @param answers The answers, one per question.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public record FormSubmissionDto(@NotEmpty List<@Valid @NotNull AnswerItem> answers) {
+
+    /**
+     * The answer to one question.
+     *
+     * @param questionId The ID of the question.
+     * @param answerId   The ID of the selected answer option, or null for a question without options.
+     */
+    public record AnswerItem(@NotNull Long questionId, Long answerId) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.gklyphon.AnswerQ.dtos;
+
+/**
+ * DTO for refresh token requests.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class RefreshTokenDto {
+
+    private String refreshToken;
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,25 @@
+package com.gklyphon.AnswerQ.dtos;
+
+import java.time.LocalDate;
+
+/**
+ * DTO with the scalar profile fields of a user. It is read with a projection query, so a
+ * profile costs one row no matter how many forms or answers the user has; those are
+ * listed through their own paginated endpoints.
+ *
+ * @param id          The user ID.
+ * @param username    The username, which is the email.
+ * @param firstname   The first name.
+ * @param lastname    The last name.
+ * @param birthdate   The birthdate.
+ * @param email       The email.
+ * @param gender      The gender.
+ * @param phoneNumber The phone number.
+ * @param enabled     Whether the account is verified.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public record UserProfileDto(Long id, String username, String firstname, String lastname, LocalDate birthdate,
+                             String email, String gender, String phoneNumber, Boolean enabled) {
+}
@@ -3,8 +3,14 @@ package com.gklyphon.AnswerQ.exceptions;
 import com.gklyphon.AnswerQ.exceptions.exception.AccountNotVerifiedException;
 import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
 import com.gklyphon.AnswerQ.exceptions.exception.InvalidCredentialsException;
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidCursorException;
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidPageRequestException;
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidSubmissionException;
+import com.gklyphon.AnswerQ.exceptions.exception.ServiceOverloadedException;
+import com.gklyphon.AnswerQ.exceptions.exception.TooManyRequestsException;
 import com.gklyphon.AnswerQ.exceptions.exception.UserAlreadyExistsException;
 import org.hibernate.service.spi.ServiceException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -90,6 +96,17 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errors);
     }
 
+    /**
+     * Handles form submissions that do not match the form structure.
+     *
+     * @param ex the thrown {@link InvalidSubmissionException}
+     * @return a map of submission errors with HTTP 400 status
+     */
+    @ExceptionHandler(InvalidSubmissionException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidSubmissionException(InvalidSubmissionException ex) {
+        return ResponseEntity.badRequest().body(ex.getErrors());
+    }
+
     /**
      * Handles exceptions thrown when an entity or resource is not found in the system.
      *
@@ -101,6 +118,54 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex);
     }
 
+    /**
+     * Handles malformed pagination cursors.
+     *
+     * @param ex the thrown {@link InvalidCursorException}
+     * @return a {@link ResponseEntity} with HTTP 400
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursorException(InvalidCursorException ex) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex);
+    }
+
+    /**
+     * Handles listing requests with invalid pagination parameters.
+     *
+     * @param ex the thrown {@link InvalidPageRequestException}
+     * @return a {@link ResponseEntity} with HTTP 400
+     */
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidPageRequestException(InvalidPageRequestException ex) {
+        return buildErrorResponse(HttpStatus.BAD_REQUEST, ex);
+    }
+
+    /**
+     * Handles requests shed because a bounded resource is saturated.
+     *
+     * @param ex the thrown {@link ServiceOverloadedException}
+     * @return a {@link ResponseEntity} with HTTP 503 and a Retry-After header
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(ServiceOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage()));
+    }
+
+    /**
+     * Handles requests rejected by the rate limiter.
+     *
+     * @param ex the thrown {@link TooManyRequestsException}
+     * @return a {@link ResponseEntity} with HTTP 429 and a Retry-After header
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage()));
+    }
+
     /**
      * Handles internal errors thrown by service-layer components.
      *
@@ -0,0 +1,18 @@
+package com.gklyphon.AnswerQ.exceptions.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,14 @@
+package com.gklyphon.AnswerQ.exceptions.exception;
+
+/**
+ * Exception thrown when a listing request has invalid pagination parameters.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class InvalidPageRequestException extends RuntimeException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,24 @@
+package com.gklyphon.AnswerQ.exceptions.exception;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a form submission does not match the structure of the form.
+ * Carries every problem found, keyed by the offending field.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class InvalidSubmissionException extends RuntimeException {
+
+    private final Map<String, String> errors;
+
+    public InvalidSubmissionException(Map<String, String> errors) {
+        super("Invalid form submission");
+        this.errors = Map.copyOf(errors);
+    }
+
+    public Map<String, String> getErrors() {
+        return errors;
+    }
+}
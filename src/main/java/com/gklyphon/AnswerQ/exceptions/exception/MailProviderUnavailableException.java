@@ -0,0 +1,24 @@
+package com.gklyphon.AnswerQ.exceptions.exception;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when emails are not sent because the mail circuit breaker is open.
+ * Callers defer delivery instead of counting it as a failed attempt.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class MailProviderUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public MailProviderUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,22 @@
+package com.gklyphon.AnswerQ.exceptions.exception;
+
+/**
+ * Exception thrown when a bounded resource is saturated and the request is shed
+ * instead of being queued indefinitely.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,21 @@
+package com.gklyphon.AnswerQ.exceptions.exception;
+
+/**
+ * Exception thrown when a client exceeds the request rate allowed for an endpoint.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
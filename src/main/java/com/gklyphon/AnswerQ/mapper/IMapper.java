@@ -32,12 +32,15 @@ public interface IMapper {
     Form fromResponseFormDtoToForm(ResponseFormDto responseFormDto);
 
     /**
-     * Converts a {@link User} to a {@link ResponseUserDto} entity.
+     * Converts a {@link User} to a {@link ResponseUserDto} entity. The user's forms and
+     * answers are not copied, so their lazy collections are never loaded.
      *
      * @param user The object to be converted
      * @return The object converted
      */
     @InheritInverseConfiguration
+    @Mapping(target = "forms", ignore = true)
+    @Mapping(target = "userAnswers", ignore = true)
     ResponseUserDto fromUserToUserDto(User user);
     RegisterUserDto fromUserToRegisterUserDto(User user);
     ResponseFormDto fromFormToResponseFormDto(Form form);
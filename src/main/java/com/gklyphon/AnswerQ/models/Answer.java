@@ -2,6 +2,8 @@ package com.gklyphon.AnswerQ.models;
 
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * This class represents an answer to a question.
@@ -11,10 +13,14 @@ import jakarta.persistence.*;
  */
 @Entity
 @Table
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ANSWER)
 public class Answer extends Auditable {
 
+    // Pooled sequence: one nextval per 50 inserts, and inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "answer_seq")
+    @SequenceGenerator(name = "answer_seq", sequenceName = "answer_seq", allocationSize = 50)
     private Long id;
     private String content;
     private boolean isCorrect;
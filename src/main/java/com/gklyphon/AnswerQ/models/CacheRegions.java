@@ -0,0 +1,27 @@
+package com.gklyphon.AnswerQ.models;
+
+/**
+ * Names of the second-level cache regions of the form catalog ({@link Form}, {@link Question}
+ * and {@link Answer}). Each region is configured in {@code catalog-cache.conf}.
+ *
+ * <p>The catalog is written rarely and read by every respondent, so its entities, their
+ * collections and the by-form and by-question queries are cached with
+ * {@code READ_WRITE}: writes through Hibernate update or evict the entries on commit.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public final class CacheRegions {
+
+    public static final String FORM = "catalog.form";
+    public static final String FORM_QUESTIONS = "catalog.form.questions";
+    public static final String QUESTION = "catalog.question";
+    public static final String QUESTION_ANSWERS = "catalog.question.answers";
+    public static final String ANSWER = "catalog.answer";
+
+    /** Results of the catalog queries, invalidated whenever one of their tables is written. */
+    public static final String QUERIES = "catalog.queries";
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,25 @@
+package com.gklyphon.AnswerQ.models;
+
+/**
+ * Names of the entity graphs declared on the entities. Repository methods bind one of them
+ * with {@code @EntityGraph} so each listing loads what it serializes in a fixed number of
+ * queries.
+ *
+ * <p>Graphs only fetch-join to-one associations on paginated queries, since joining a
+ * collection would make Hibernate paginate in memory. Collections reached from a page are
+ * loaded in batches instead ({@code hibernate.default_batch_fetch_size}).</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public final class FetchPlans {
+
+    /** A form with its questions; for single-form reads only. */
+    public static final String FORM_WITH_QUESTIONS = "Form.withQuestions";
+
+    /** A user answer with the form, question, answer and user it references. */
+    public static final String USER_ANSWER_WITH_REFERENCES = "UserAnswer.withReferences";
+
+    private FetchPlans() {
+    }
+}
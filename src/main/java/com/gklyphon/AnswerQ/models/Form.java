@@ -2,6 +2,8 @@ package com.gklyphon.AnswerQ.models;
 
 import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Set;
 
@@ -14,6 +16,9 @@ import java.util.Set;
  */
 @Entity
 @Table
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.FORM)
+@NamedEntityGraph(name = FetchPlans.FORM_WITH_QUESTIONS, attributeNodes = @NamedAttributeNode("questions"))
 public class Form extends Auditable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,12 +28,13 @@ public class Form extends Auditable {
     private String pin;
 
     // The user owner of the form
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonBackReference
     private User user;
 
     // List of questions in the form
     @OneToMany(mappedBy = "form", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.FORM_QUESTIONS)
     private Set<Question> questions;
 
     public Form() {
@@ -53,6 +53,11 @@ public class User extends Auditable implements UserDetails {
     @Column(name = "verification_expiration")
     private LocalDateTime verificationCodeExpiresAt;
 
+    // Incremented to revoke every token issued before the change
+    @JsonIgnore
+    @Column(name = "token_version")
+    private Integer tokenVersion;
+
     public User() {
     }
 
@@ -208,4 +213,12 @@ public class User extends Auditable implements UserDetails {
     public void setEnabled(Boolean enabled) {
         this.enabled = enabled;
     }
+
+    public int getTokenVersion() {
+        return tokenVersion != null ? tokenVersion : 0;
+    }
+
+    public void setTokenVersion(Integer tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
 }
\ No newline at end of file
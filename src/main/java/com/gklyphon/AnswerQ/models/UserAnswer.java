@@ -13,10 +13,23 @@ import java.time.LocalDate;
  */
 @Entity
 @Table
+@NamedEntityGraph(name = FetchPlans.USER_ANSWER_WITH_REFERENCES, attributeNodes = {
+        @NamedAttributeNode("form"),
+        @NamedAttributeNode("question"),
+        @NamedAttributeNode("answer"),
+        @NamedAttributeNode("user")
+})
 public class UserAnswer extends Auditable {
 
+    /**
+     * Number of IDs Hibernate takes from {@code user_answer_seq} with each {@code nextval}.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled sequence: one nextval per 50 inserts, and inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_answer_seq")
+    @SequenceGenerator(name = "user_answer_seq", sequenceName = "user_answer_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     // The form that contains the question
@@ -1,9 +1,18 @@
 package com.gklyphon.AnswerQ.repositories;
 
 import com.gklyphon.AnswerQ.models.Answer;
+import com.gklyphon.AnswerQ.models.CacheRegions;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 /**
  * Repository interface for accessing {@link Answer} data from the database.
@@ -20,5 +29,59 @@ public interface IAnswerRepository extends JpaRepository<Answer, Long> {
      * @param pageable Pageable object to control pagination.
      * @return A page of answers for the given question.
      */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES)})
     Page<Answer> findAllByQuestion_Id(Long questionId, Pageable pageable);
+
+    /**
+     * Finds answers that belong to a specific question after the given ID, ordered by ID, without counting them.
+     *
+     * @param questionId The ID of the question.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size; the page number must be 0.
+     * @return A slice of answers that belong to a specific question.
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES)})
+    Slice<Answer> findAllByQuestion_IdAndIdGreaterThanOrderByIdAsc(Long questionId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a slice of answers without counting them.
+     *
+     * @param pageable Pagination information.
+     * @return A slice of answers.
+     */
+    Slice<Answer> findSliceBy(Pageable pageable);
+
+    /**
+     * Finds a slice of answers for a specific question without counting them.
+     *
+     * @param questionId The ID of the question.
+     * @param pageable Pagination information.
+     * @return A slice of answers for a specific question.
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES)})
+    Slice<Answer> findSliceByQuestion_Id(Long questionId, Pageable pageable);
+
+    /**
+     * Finds the columns needed to render the answers of every question of a form, in one query.
+     *
+     * @param formId The ID of the form.
+     * @return The answers of the form's questions, ordered by ID.
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES)})
+    @Query("select a.id as id, a.content as content, a.question.id as questionId from Answer a "
+            + "where a.question.form.id = :formId order by a.id")
+    List<RenderView> findRenderViewsByFormId(@Param("formId") Long formId);
+
+    /**
+     * Columns of an answer used to render it.
+     */
+    interface RenderView {
+        Long getId();
+        String getContent();
+        Long getQuestionId();
+    }
 }
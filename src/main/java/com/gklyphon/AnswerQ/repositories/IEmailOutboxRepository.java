@@ -0,0 +1,106 @@
+package com.gklyphon.AnswerQ.repositories;
+
+import com.gklyphon.AnswerQ.models.EmailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link EmailOutbox} entities.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public interface IEmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * Locks a batch of emails that are due, skipping rows locked by other dispatchers.
+     * Rows stuck in {@code SENDING} with an expired lease are picked up again.
+     *
+     * @param now   Current time.
+     * @param limit Maximum number of rows.
+     * @return List of locked outbox emails.
+     */
+    @Query(value = "select * from email_outbox " +
+            "where (status = 'PENDING' and next_attempt_at <= :now) " +
+            "or (status = 'SENDING' and locked_until < :now) " +
+            "order by id limit :limit for update skip locked", nativeQuery = true)
+    List<EmailOutbox> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Marks an email as delivered.
+     *
+     * @param id     The ID of the email.
+     * @param sentAt Delivery time.
+     * @return Number of updated rows.
+     */
+    default int markSent(Long id, LocalDateTime sentAt) {
+        return updateSent(id, EmailOutbox.Status.SENT, sentAt);
+    }
+
+    @Modifying
+    @Query("update EmailOutbox e set e.status = :status, e.sentAt = :sentAt, e.lockedUntil = null where e.id = :id")
+    int updateSent(@Param("id") Long id, @Param("status") EmailOutbox.Status status, @Param("sentAt") LocalDateTime sentAt);
+
+    /**
+     * Records a failed delivery attempt.
+     *
+     * @param id            The ID of the email.
+     * @param status        {@code PENDING} to retry, {@code FAILED} to give up.
+     * @param nextAttemptAt Time of the next attempt.
+     * @param lastError     Error of the failed attempt.
+     * @return Number of updated rows.
+     */
+    @Modifying
+    @Query("update EmailOutbox e set e.status = :status, e.attempts = e.attempts + 1, " +
+            "e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError, e.lockedUntil = null where e.id = :id")
+    int markFailedAttempt(@Param("id") Long id, @Param("status") EmailOutbox.Status status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("lastError") String lastError);
+
+    /**
+     * Returns a claimed email to the queue without counting an attempt.
+     *
+     * @param id            The ID of the email.
+     * @param nextAttemptAt Time of the next attempt.
+     * @return Number of updated rows.
+     */
+    default int defer(Long id, LocalDateTime nextAttemptAt) {
+        return updateDeferred(id, EmailOutbox.Status.PENDING, nextAttemptAt);
+    }
+
+    @Modifying
+    @Query("update EmailOutbox e set e.status = :status, e.nextAttemptAt = :nextAttemptAt, e.lockedUntil = null where e.id = :id")
+    int updateDeferred(@Param("id") Long id, @Param("status") EmailOutbox.Status status,
+                       @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    /**
+     * Finds the creation time of the oldest email not yet delivered.
+     *
+     * @return The creation time, or empty if the outbox is drained.
+     */
+    default Optional<LocalDateTime> findOldestUndeliveredCreatedAt() {
+        return findOldestCreatedAt(List.of(EmailOutbox.Status.PENDING, EmailOutbox.Status.SENDING));
+    }
+
+    @Query("select min(e.createdAt) from EmailOutbox e where e.status in :statuses")
+    Optional<LocalDateTime> findOldestCreatedAt(@Param("statuses") List<EmailOutbox.Status> statuses);
+
+    /**
+     * Deletes delivered emails sent before the given time.
+     *
+     * @param threshold Sent time threshold.
+     * @return Number of deleted rows.
+     */
+    default int deleteSentBefore(LocalDateTime threshold) {
+        return deleteByStatusBefore(EmailOutbox.Status.SENT, threshold);
+    }
+
+    @Modifying
+    @Query("delete from EmailOutbox e where e.status = :status and e.sentAt < :threshold")
+    int deleteByStatusBefore(@Param("status") EmailOutbox.Status status, @Param("threshold") LocalDateTime threshold);
+}
@@ -1,9 +1,20 @@
 package com.gklyphon.AnswerQ.repositories;
 
+import com.gklyphon.AnswerQ.models.CacheRegions;
+import com.gklyphon.AnswerQ.models.FetchPlans;
 import com.gklyphon.AnswerQ.models.Form;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 /**
  * Repository interface for managing {@link Form} entities in the database.
@@ -13,6 +24,10 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface IFormRepository extends JpaRepository<Form, Long> {
 
+    @Override
+    @EntityGraph(FetchPlans.FORM_WITH_QUESTIONS)
+    Optional<Form> findById(Long id);
+
     /**
      * Finds a page of forms created by a specific user.
      *
@@ -21,4 +36,51 @@ public interface IFormRepository extends JpaRepository<Form, Long> {
      * @return A page of forms created by the specified user.
      */
     Page<Form> findAllByUser_Id(Long userId, Pageable pageable);
+
+    /**
+     * Finds forms created by a specific user after the given ID, ordered by ID, without counting them.
+     *
+     * @param userId The ID of the user.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size; the page number must be 0.
+     * @return A slice of forms created by a specific user.
+     */
+    Slice<Form> findAllByUser_IdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a slice of forms without counting them.
+     *
+     * @param pageable Pagination information.
+     * @return A slice of forms.
+     */
+    Slice<Form> findSliceBy(Pageable pageable);
+
+    /**
+     * Finds a slice of forms created by a specific user without counting them.
+     *
+     * @param userId The ID of the user.
+     * @param pageable Pagination information.
+     * @return A slice of forms created by a specific user.
+     */
+    Slice<Form> findSliceByUser_Id(Long userId, Pageable pageable);
+
+    /**
+     * Finds the columns of a form needed to render it, without loading the entity or its owner.
+     *
+     * @param id The ID of the form.
+     * @return The form columns, if the form exists.
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES)})
+    @Query("select f.id as id, f.name as name, f.isEnabled as enabled from Form f where f.id = :id")
+    Optional<RenderView> findRenderViewById(@Param("id") Long id);
+
+    /**
+     * Columns of a form used to render it.
+     */
+    interface RenderView {
+        Long getId();
+        String getName();
+        boolean isEnabled();
+    }
 }
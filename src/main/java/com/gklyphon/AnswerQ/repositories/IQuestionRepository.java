@@ -1,9 +1,18 @@
 package com.gklyphon.AnswerQ.repositories;
 
+import com.gklyphon.AnswerQ.models.CacheRegions;
 import com.gklyphon.AnswerQ.models.Question;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 /**
  * Repository interface for accessing {@link Question} data from the database.
@@ -20,5 +29,59 @@ public interface IQuestionRepository extends JpaRepository<Question, Long> {
      * @param pageable Pageable object to control pagination.
      * @return A page of questions for the given form.
      */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES)})
     Page<Question> findAllByForm_Id(Long id, Pageable pageable);
+
+    /**
+     * Finds questions that belong to a specific form after the given ID, ordered by ID, without counting them.
+     *
+     * @param formId The ID of the form.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size; the page number must be 0.
+     * @return A slice of questions that belong to a specific form.
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES)})
+    Slice<Question> findAllByForm_IdAndIdGreaterThanOrderByIdAsc(Long formId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a slice of questions without counting them.
+     *
+     * @param pageable Pagination information.
+     * @return A slice of questions.
+     */
+    Slice<Question> findSliceBy(Pageable pageable);
+
+    /**
+     * Finds a slice of questions for a specific form without counting them.
+     *
+     * @param formId The ID of the form.
+     * @param pageable Pagination information.
+     * @return A slice of questions for a specific form.
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES)})
+    Slice<Question> findSliceByForm_Id(Long formId, Pageable pageable);
+
+    /**
+     * Finds the columns needed to render every question of a form, in one query.
+     *
+     * @param formId The ID of the form.
+     * @return The questions of the form, ordered by ID.
+     */
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheRegions.QUERIES)})
+    @Query("select q.id as id, q.content as content, q.isRequired as required from Question q "
+            + "where q.form.id = :formId order by q.id")
+    List<RenderView> findRenderViewsByFormId(@Param("formId") Long formId);
+
+    /**
+     * Columns of a question used to render it.
+     */
+    interface RenderView {
+        Long getId();
+        String getContent();
+        boolean isRequired();
+    }
 }
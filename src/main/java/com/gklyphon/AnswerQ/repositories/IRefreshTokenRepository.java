@@ -0,0 +1,61 @@
+package com.gklyphon.AnswerQ.repositories;
+
+import com.gklyphon.AnswerQ.models.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link RefreshToken} entities.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public interface IRefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /**
+     * Finds a refresh token by the hash of its value, locking the row so concurrent
+     * rotations of the same token are serialized.
+     *
+     * @param tokenHash SHA-256 hash of the token.
+     * @return An Optional containing the found token, or empty if none found.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /**
+     * Revokes every token in a family.
+     *
+     * @param familyId The family ID.
+     * @return Number of revoked tokens.
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.familyId = :familyId")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    /**
+     * Revokes every token issued to a user.
+     *
+     * @param userId The ID of the user.
+     * @return Number of revoked tokens.
+     */
+    @Modifying
+    @Query("update RefreshToken r set r.revoked = true where r.user.id = :userId")
+    int revokeAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * Deletes tokens that expired before the given time.
+     *
+     * @param threshold Expiration threshold.
+     * @return Number of deleted tokens.
+     */
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :threshold")
+    int deleteExpired(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,63 @@
+package com.gklyphon.AnswerQ.repositories;
+
+import com.gklyphon.AnswerQ.models.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link RevokedToken} entities.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public interface IRevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    /**
+     * Stores a revocation unless the token ID is already revoked, so concurrent revocations
+     * of the same token do not fail on the unique constraint.
+     *
+     * @param tokenId   The token ID.
+     * @param expiresAt Expiration of the token.
+     * @param revokedAt Time of the revocation.
+     * @return 1 if the revocation was stored, 0 if the token was already revoked.
+     */
+    @Modifying
+    @Query(value = "insert into revoked_token (token_id, expires_at, revoked_at) " +
+            "values (:tokenId, :expiresAt, :revokedAt) on conflict (token_id) do nothing", nativeQuery = true)
+    int insertIfAbsent(@Param("tokenId") String tokenId, @Param("expiresAt") LocalDateTime expiresAt,
+                       @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * Finds revoked tokens that have not expired yet.
+     *
+     * @param now Current time.
+     * @return List of revoked tokens.
+     */
+    @Query("select r from RevokedToken r where r.expiresAt > :now")
+    List<RevokedToken> findActive(@Param("now") LocalDateTime now);
+
+    /**
+     * Finds tokens revoked after the given time that have not expired yet.
+     *
+     * @param since Lower bound of the revocation time.
+     * @param now   Current time.
+     * @return List of revoked tokens.
+     */
+    @Query("select r from RevokedToken r where r.revokedAt > :since and r.expiresAt > :now")
+    List<RevokedToken> findActiveRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    /**
+     * Deletes revocations of tokens that expired before the given time.
+     *
+     * @param threshold Expiration threshold.
+     * @return Number of deleted rows.
+     */
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt < :threshold")
+    int deleteExpired(@Param("threshold") LocalDateTime threshold);
+}
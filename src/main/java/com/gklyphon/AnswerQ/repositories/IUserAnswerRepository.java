@@ -3,8 +3,12 @@ package com.gklyphon.AnswerQ.repositories;
 import com.gklyphon.AnswerQ.models.*;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Optional;
+
 /**
  * Repository interface for managing {@link UserAnswer} entities.
  *
@@ -13,6 +17,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface IUserAnswerRepository extends JpaRepository<UserAnswer, Long> {
 
+    @Override
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Optional<UserAnswer> findById(Long id);
+
+    @Override
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Page<UserAnswer> findAll(Pageable pageable);
+
     /**
      * Finds user answers for a specific form with pagination.
      *
@@ -20,6 +32,7 @@ public interface IUserAnswerRepository extends JpaRepository<UserAnswer, Long> {
      * @param pageable Pagination information.
      * @return A page of user answers linked to the form.
      */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
     Page<UserAnswer> findAllByForm_Id(Long formId, Pageable pageable);
 
     /**
@@ -29,6 +42,7 @@ public interface IUserAnswerRepository extends JpaRepository<UserAnswer, Long> {
      * @param pageable Pagination information.
      * @return A page of user answers given by the user.
      */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
     Page<UserAnswer> findAllByUser_Id(Long userId, Pageable pageable);
 
     /**
@@ -38,6 +52,7 @@ public interface IUserAnswerRepository extends JpaRepository<UserAnswer, Long> {
      * @param pageable Pagination information.
      * @return A page of user answers related to the question.
      */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
     Page<UserAnswer> findAllByQuestion_Id(Long questionId, Pageable pageable);
 
     /**
@@ -47,5 +62,99 @@ public interface IUserAnswerRepository extends JpaRepository<UserAnswer, Long> {
      * @param pageable Pagination information.
      * @return A page of user answers that chose the answer.
      */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
     Page<UserAnswer> findAllByAnswer_Id(Long answerId, Pageable pageable);
+
+    /**
+     * Finds user answers for a specific form after the given ID, ordered by ID, without counting them.
+     *
+     * @param formId The ID of the form.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size; the page number must be 0.
+     * @return A slice of user answers for a specific form.
+     */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Slice<UserAnswer> findAllByForm_IdAndIdGreaterThanOrderByIdAsc(Long formId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds user answers submitted by a specific user after the given ID, ordered by ID, without counting them.
+     *
+     * @param userId The ID of the user.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size; the page number must be 0.
+     * @return A slice of user answers submitted by a specific user.
+     */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Slice<UserAnswer> findAllByUser_IdAndIdGreaterThanOrderByIdAsc(Long userId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds user answers for a specific question after the given ID, ordered by ID, without counting them.
+     *
+     * @param questionId The ID of the question.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size; the page number must be 0.
+     * @return A slice of user answers for a specific question.
+     */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Slice<UserAnswer> findAllByQuestion_IdAndIdGreaterThanOrderByIdAsc(Long questionId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds user answers that selected a specific answer after the given ID, ordered by ID, without counting them.
+     *
+     * @param answerId The ID of the answer.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size; the page number must be 0.
+     * @return A slice of user answers that selected a specific answer.
+     */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Slice<UserAnswer> findAllByAnswer_IdAndIdGreaterThanOrderByIdAsc(Long answerId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a slice of user answers without counting them.
+     *
+     * @param pageable Pagination information.
+     * @return A slice of user answers.
+     */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Slice<UserAnswer> findSliceBy(Pageable pageable);
+
+    /**
+     * Finds a slice of user answers for a specific form without counting them.
+     *
+     * @param formId The ID of the form.
+     * @param pageable Pagination information.
+     * @return A slice of user answers for a specific form.
+     */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Slice<UserAnswer> findSliceByForm_Id(Long formId, Pageable pageable);
+
+    /**
+     * Finds a slice of user answers submitted by a specific user without counting them.
+     *
+     * @param userId The ID of the user.
+     * @param pageable Pagination information.
+     * @return A slice of user answers submitted by a specific user.
+     */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Slice<UserAnswer> findSliceByUser_Id(Long userId, Pageable pageable);
+
+    /**
+     * Finds a slice of user answers for a specific question without counting them.
+     *
+     * @param questionId The ID of the question.
+     * @param pageable Pagination information.
+     * @return A slice of user answers for a specific question.
+     */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Slice<UserAnswer> findSliceByQuestion_Id(Long questionId, Pageable pageable);
+
+    /**
+     * Finds a slice of user answers that selected a specific answer without counting them.
+     *
+     * @param answerId The ID of the answer.
+     * @param pageable Pagination information.
+     * @return A slice of user answers that selected a specific answer.
+     */
+    @EntityGraph(FetchPlans.USER_ANSWER_WITH_REFERENCES)
+    Slice<UserAnswer> findSliceByAnswer_Id(Long answerId, Pageable pageable);
 }
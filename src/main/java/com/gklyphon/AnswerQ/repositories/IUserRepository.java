@@ -1,9 +1,14 @@
 package com.gklyphon.AnswerQ.repositories;
 
+import com.gklyphon.AnswerQ.dtos.UserProfileDto;
 import com.gklyphon.AnswerQ.models.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import javax.swing.text.html.Option;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -32,4 +37,32 @@ public interface IUserRepository extends JpaRepository<User, Long> {
     Optional<User> findByVerificationCode(String verificationCode);
 
     Boolean existsByEmail(String email);
+
+    /**
+     * Finds only the current token version of a user, without loading the entity.
+     *
+     * @param id The ID of the user.
+     * @return An Optional containing the token version, or empty if the user does not exist.
+     */
+    @Query("select coalesce(u.tokenVersion, 0) from User u where u.id = :id")
+    Optional<Integer> findTokenVersionById(@Param("id") Long id);
+
+    /**
+     * Finds the scalar profile fields of a user, without loading the entity or its collections.
+     *
+     * @param id The ID of the user.
+     * @return An Optional containing the profile, or empty if the user does not exist.
+     */
+    @Query("select new com.gklyphon.AnswerQ.dtos.UserProfileDto(u.id, u.email, u.firstname, u.lastname, "
+            + "u.birthdate, u.email, u.gender, u.phoneNumber, u.enabled) from User u where u.id = :id")
+    Optional<UserProfileDto> findProfileById(@Param("id") Long id);
+
+    /**
+     * Finds which of the given user IDs exist.
+     *
+     * @param ids The IDs to check.
+     * @return The IDs that belong to an existing user.
+     */
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,27 @@
+package com.gklyphon.AnswerQ.responses;
+
+import java.util.List;
+
+/**
+ * Represents the report sent to the client after a bulk upload of user answers.
+ *
+ * @param lines           The number of non-empty lines read.
+ * @param inserted        The number of stored user answers.
+ * @param rejected        The number of lines that were not stored.
+ * @param errors          Why each rejected line was not stored, up to the configured limit.
+ * @param errorsTruncated Whether more lines were rejected than {@code errors} lists.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public record BulkIngestResponse(long lines, long inserted, long rejected, List<LineError> errors, boolean errorsTruncated) {
+
+    /**
+     * A rejected line of the upload.
+     *
+     * @param line    The 1-based line number.
+     * @param message Why the line was rejected.
+     */
+    public record LineError(long line, String message) {
+    }
+}
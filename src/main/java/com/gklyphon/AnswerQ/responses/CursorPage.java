@@ -0,0 +1,111 @@
+package com.gklyphon.AnswerQ.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidCursorException;
+import org.springframework.data.domain.Slice;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of a keyset (seek) paginated listing.
+ *
+ * <p>Rows are ordered by ID and the {@code next} cursor is an opaque token for the last ID
+ * returned. Passing it back as {@code after} resumes right after that row with an index seek,
+ * so deep pages cost the same as the first one and no count query is run.</p>
+ *
+ * @param <T> The type of the elements.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class CursorPage<T> {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    @JsonProperty("content")
+    private final List<T> content;
+
+    @JsonProperty("size")
+    private final int size;
+
+    @JsonProperty("hasNext")
+    private final boolean hasNext;
+
+    @JsonProperty("next")
+    private final String next;
+
+    private CursorPage(List<T> content, int size, boolean hasNext, String next) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.next = next;
+    }
+
+    /**
+     * Builds a cursor page from a slice ordered by ID.
+     *
+     * @param slice The slice of elements.
+     * @param idExtractor Function that returns the ID of an element.
+     * @return The cursor page, with a next cursor if more elements follow.
+     */
+    public static <T> CursorPage<T> of(Slice<T> slice, Function<T, Long> idExtractor) {
+        List<T> content = slice.getContent();
+        String next = slice.hasNext() && !content.isEmpty()
+                ? encode(idExtractor.apply(content.get(content.size() - 1)))
+                : null;
+        return new CursorPage<>(content, slice.getSize(), slice.hasNext(), next);
+    }
+
+    /**
+     * Encodes an ID as an opaque cursor.
+     *
+     * @param id The ID of the last element returned.
+     * @return The cursor.
+     */
+    public static String encode(long id) {
+        return ENCODER.encodeToString(ByteBuffer.allocate(Long.BYTES).putLong(id).array());
+    }
+
+    /**
+     * Decodes a cursor received as the {@code after} parameter. An empty cursor starts at the
+     * beginning.
+     *
+     * @param cursor The cursor.
+     * @return The ID to continue after.
+     * @throws InvalidCursorException If the cursor is malformed.
+     */
+    public static long decode(String cursor) {
+        if (cursor.isEmpty()) {
+            return 0L;
+        }
+        try {
+            byte[] bytes = DECODER.decode(cursor);
+            if (bytes.length != Long.BYTES) {
+                throw new InvalidCursorException("Invalid cursor");
+            }
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException("Invalid cursor", ex);
+        }
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNext() {
+        return next;
+    }
+}
@@ -0,0 +1,13 @@
+package com.gklyphon.AnswerQ.responses;
+
+/**
+ * Represents the response sent to the client after a form submission is stored.
+ *
+ * @param formId The ID of the submitted form.
+ * @param saved  The number of stored answers.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public record FormSubmissionResponse(Long formId, int saved) {
+}
@@ -19,12 +19,24 @@ public class LoginResponse {
     @JsonProperty("verified")
     public boolean verified;
 
+    @JsonProperty("refreshToken")
+    private String refreshToken;
+
+    @JsonProperty("refreshExpiresIn")
+    private long refreshExpiresIn;
+
     public LoginResponse(String token, long expiresIn, boolean verified) {
         this.token = token;
         this.expiresIn = expiresIn;
         this.verified = verified;
     }
 
+    public LoginResponse(String token, long expiresIn, boolean verified, String refreshToken, long refreshExpiresIn) {
+        this(token, expiresIn, verified);
+        this.refreshToken = refreshToken;
+        this.refreshExpiresIn = refreshExpiresIn;
+    }
+
     public String getToken() {
         return token;
     }
@@ -48,4 +60,20 @@ public class LoginResponse {
     public void setVerified(boolean verified) {
         this.verified = verified;
     }
+
+    public String getRefreshToken() {
+        return refreshToken;
+    }
+
+    public void setRefreshToken(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+
+    public long getRefreshExpiresIn() {
+        return refreshExpiresIn;
+    }
+
+    public void setRefreshExpiresIn(long refreshExpiresIn) {
+        this.refreshExpiresIn = refreshExpiresIn;
+    }
 }
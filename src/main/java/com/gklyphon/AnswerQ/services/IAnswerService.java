@@ -1,8 +1,10 @@
 package com.gklyphon.AnswerQ.services;
 
 import com.gklyphon.AnswerQ.models.Answer;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing {@link Answer} entities.
@@ -18,7 +20,27 @@ public interface IAnswerService extends IService<Answer, Answer> {
      *
      * @param questionId The ID of the question.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of answers for the question.
      */
-    Page<Answer> findAllByQuestion_Id(Long questionId, Pageable pageable);
+    Page<Answer> findAllByQuestion_Id(Long questionId, Pageable pageable, CountMode countMode);
+
+    /**
+     * Finds a slice of answers for a question after the given ID, for keyset pagination.
+     *
+     * @param questionId The ID of the question.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of answers for a question, ordered by ID.
+     */
+    Slice<Answer> findAllByQuestion_IdAfter(Long questionId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a page of all answers.
+     *
+     * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
+     * @return A page of answers.
+     */
+    Page<Answer> findAll(Pageable pageable, CountMode countMode);
 }
@@ -1,9 +1,13 @@
 package com.gklyphon.AnswerQ.services;
 
+import com.gklyphon.AnswerQ.dtos.FormRenderDto;
 import com.gklyphon.AnswerQ.dtos.ResponseFormDto;
+import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
 import com.gklyphon.AnswerQ.models.Form;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing {@link Form} entities.
@@ -19,7 +23,36 @@ public interface IFormService extends IService<ResponseFormDto, Form> {
      *
      * @param userId The ID of the user.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of forms owned by the user.
      */
-    Page<ResponseFormDto> findAllByUser_Id(Long userId, Pageable pageable);
+    Page<ResponseFormDto> findAllByUser_Id(Long userId, Pageable pageable, CountMode countMode);
+
+    /**
+     * Finds a slice of forms owned by a user after the given ID, for keyset pagination.
+     *
+     * @param userId The ID of the user.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of forms owned by a user, ordered by ID.
+     */
+    Slice<ResponseFormDto> findAllByUser_IdAfter(Long userId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a page of all forms.
+     *
+     * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
+     * @return A page of forms.
+     */
+    Page<ResponseFormDto> findAll(Pageable pageable, CountMode countMode);
+
+    /**
+     * Loads a form with its questions and answer options, ready to display.
+     *
+     * @param id The ID of the form.
+     * @return The form tree.
+     * @throws ElementNotFoundException If the form does not exist.
+     */
+    FormRenderDto findRenderById(Long id) throws ElementNotFoundException;
 }
@@ -1,8 +1,10 @@
 package com.gklyphon.AnswerQ.services;
 
 import com.gklyphon.AnswerQ.models.Question;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing {@link Question} entities.
@@ -18,7 +20,27 @@ public interface IQuestionService extends IService<Question, Question> {
      *
      * @param id The ID of the form.
      * @param pageable Pagination details.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of questions for the form.
      */
-    Page<Question> findAllByForm_Id(Long id, Pageable pageable);
+    Page<Question> findAllByForm_Id(Long id, Pageable pageable, CountMode countMode);
+
+    /**
+     * Finds a slice of questions for a form after the given ID, for keyset pagination.
+     *
+     * @param id The ID of the form.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of questions for a form, ordered by ID.
+     */
+    Slice<Question> findAllByForm_IdAfter(Long id, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a page of all questions.
+     *
+     * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
+     * @return A page of questions.
+     */
+    Page<Question> findAll(Pageable pageable, CountMode countMode);
 }
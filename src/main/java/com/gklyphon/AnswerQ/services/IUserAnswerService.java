@@ -1,8 +1,13 @@
 package com.gklyphon.AnswerQ.services;
 
+import com.gklyphon.AnswerQ.dtos.FormSubmissionDto;
+import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
 import com.gklyphon.AnswerQ.models.*;
+import com.gklyphon.AnswerQ.responses.FormSubmissionResponse;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 /**
  * Service interface for managing {@link UserAnswer} entities.
@@ -18,34 +23,98 @@ public interface IUserAnswerService extends IService<UserAnswer, UserAnswer> {
      *
      * @param formId The ID of the form.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of user answers for the form.
      */
-    Page<UserAnswer> findAllByForm(Long formId, Pageable pageable);
+    Page<UserAnswer> findAllByForm(Long formId, Pageable pageable, CountMode countMode);
 
     /**
      * Finds a page of user answers by user ID.
      *
      * @param userId The ID of the user.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of user answers by the user.
      */
-    Page<UserAnswer> findAllByUser(Long userId, Pageable pageable);
+    Page<UserAnswer> findAllByUser(Long userId, Pageable pageable, CountMode countMode);
 
     /**
      * Finds a page of user answers by question ID.
      *
      * @param questionId The ID of the question.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of user answers for the question.
      */
-    Page<UserAnswer> findAllByQuestion(Long questionId, Pageable pageable);
+    Page<UserAnswer> findAllByQuestion(Long questionId, Pageable pageable, CountMode countMode);
 
     /**
      * Finds a page of user answers by answer ID.
      *
      * @param answerId The ID of the answer.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of user answers for the answer.
      */
-    Page<UserAnswer> findAllByAnswer(Long answerId, Pageable pageable);
+    Page<UserAnswer> findAllByAnswer(Long answerId, Pageable pageable, CountMode countMode);
+
+    /**
+     * Finds a slice of user answers for the form after the given ID, for keyset pagination.
+     *
+     * @param formId The ID of the form.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of user answers for the form, ordered by ID.
+     */
+    Slice<UserAnswer> findAllByFormAfter(Long formId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a slice of user answers by the user after the given ID, for keyset pagination.
+     *
+     * @param userId The ID of the user.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of user answers by the user, ordered by ID.
+     */
+    Slice<UserAnswer> findAllByUserAfter(Long userId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a slice of user answers for the question after the given ID, for keyset pagination.
+     *
+     * @param questionId The ID of the question.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of user answers for the question, ordered by ID.
+     */
+    Slice<UserAnswer> findAllByQuestionAfter(Long questionId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a slice of user answers for the answer after the given ID, for keyset pagination.
+     *
+     * @param answerId The ID of the answer.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of user answers for the answer, ordered by ID.
+     */
+    Slice<UserAnswer> findAllByAnswerAfter(Long answerId, Long afterId, Pageable pageable);
+
+    /**
+     * Finds a page of all user answers.
+     *
+     * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
+     * @return A page of user answers.
+     */
+    Page<UserAnswer> findAll(Pageable pageable, CountMode countMode);
+
+    /**
+     * Validates all answers of one respondent to a form and stores them together.
+     *
+     * @param formId The ID of the form.
+     * @param userId The ID of the respondent.
+     * @param submission The answers.
+     * @return The number of stored answers.
+     * @throws ElementNotFoundException If the form does not exist.
+     */
+    FormSubmissionResponse submit(Long formId, Long userId, FormSubmissionDto submission) throws ElementNotFoundException;
 }
@@ -0,0 +1,13 @@
+package com.gklyphon.AnswerQ.services.email;
+
+/**
+ * An HTML email to be sent.
+ *
+ * @param to The recipient email address
+ * @param subject The subject of the email
+ * @param text The HTML content of the email
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public record EmailMessage(String to, String subject, String text) {
+}
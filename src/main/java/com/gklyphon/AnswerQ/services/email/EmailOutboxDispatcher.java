@@ -0,0 +1,290 @@
+package com.gklyphon.AnswerQ.services.email;
+
+import com.gklyphon.AnswerQ.exceptions.exception.MailProviderUnavailableException;
+import com.gklyphon.AnswerQ.models.EmailOutbox;
+import com.gklyphon.AnswerQ.repositories.IEmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background dispatcher that drains the email outbox.
+ *
+ * <p>Each poll locks a batch of due rows with {@code FOR UPDATE SKIP LOCKED}, marks them as
+ * {@code SENDING} under a lease and commits, so several nodes can dispatch concurrently
+ * without sending the same email twice. The batch is split across a small worker pool and each
+ * worker sends its share over one pooled SMTP connection, outside any transaction. Failed sends are retried with exponential backoff and jitter until the
+ * attempt limit is reached; invalid messages fail immediately. A row whose dispatcher died
+ * mid-send becomes claimable again when its lease expires. While the
+ * {@link MailCircuitBreaker} is open nothing is claimed, and emails caught by it are deferred
+ * without using up an attempt.</p>
+ *
+ * <p>Exported metrics: {@code email.outbox.send.duration} (by result),
+ * {@code email.outbox.lag} (age of the oldest undelivered email) and
+ * {@code email.outbox.failed}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailOutboxDispatcher.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final IEmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+    private final MailCircuitBreaker circuitBreaker;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int dispatcherThreads;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+    private final Counter failedCounter;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public EmailOutboxDispatcher(IEmailOutboxRepository emailOutboxRepository, EmailService emailService,
+                                 MailCircuitBreaker circuitBreaker,
+                                 PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+                                 @Value("${email.outbox.dispatcher-threads:4}") int dispatcherThreads,
+                                 @Value("${email.outbox.batch-size:20}") int batchSize,
+                                 @Value("${email.outbox.max-attempts:8}") int maxAttempts,
+                                 @Value("${email.outbox.lease:2m}") Duration lease,
+                                 @Value("${email.outbox.initial-backoff:10s}") Duration initialBackoff,
+                                 @Value("${email.outbox.max-backoff:1h}") Duration maxBackoff,
+                                 @Value("${email.outbox.retention:7d}") Duration retention) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.circuitBreaker = circuitBreaker;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newFixedThreadPool(dispatcherThreads, new DispatcherThreadFactory());
+        this.dispatcherThreads = dispatcherThreads;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+        this.sendSuccessTimer = sendTimer(meterRegistry, "success");
+        this.sendFailureTimer = sendTimer(meterRegistry, "failure");
+        this.failedCounter = Counter.builder("email.outbox.failed")
+                .description("Emails given up on after exhausting their attempts")
+                .register(meterRegistry);
+        Gauge.builder("email.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest email waiting for delivery")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    private static Timer sendTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("email.outbox.send.duration")
+                .description("Time spent delivering an outbox email over SMTP")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Claims and sends due emails until the outbox has no full batch left, then refreshes
+     * the lag gauge.
+     */
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:1s}")
+    public void dispatch() {
+        List<OutboxMessage> batch;
+        do {
+            MailCircuitBreaker.State state = circuitBreaker.getState();
+            if (state == MailCircuitBreaker.State.OPEN && circuitBreaker.getRemainingOpenTime().isPositive()) {
+                break;
+            }
+            // While the circuit is not closed, a single email probes the provider
+            batch = claimBatch(state == MailCircuitBreaker.State.CLOSED ? batchSize : 1);
+            sendAll(batch);
+        } while (batch.size() == batchSize);
+        updateLag();
+    }
+
+    /**
+     * Deletes delivered emails older than the retention period.
+     */
+    @Scheduled(cron = "${email.outbox.purge-cron:0 0 4 * * *}")
+    public void purgeSent() {
+        Integer deleted = transactionTemplate.execute(status ->
+                emailOutboxRepository.deleteSentBefore(LocalDateTime.now().minus(retention)));
+        log.info("Purged {} delivered outbox emails", deleted);
+    }
+
+    /**
+     * Locks due rows and marks them as being sent under a lease, in a short transaction.
+     */
+    private List<OutboxMessage> claimBatch(int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailOutbox> due = emailOutboxRepository.lockDue(now, limit);
+            for (EmailOutbox email : due) {
+                email.setStatus(EmailOutbox.Status.SENDING);
+                email.setLockedUntil(now.plus(lease));
+            }
+            return due.stream().map(OutboxMessage::from).toList();
+        });
+    }
+
+    /**
+     * Splits the batch across the worker pool. Each worker sends its share over one pooled
+     * SMTP connection.
+     */
+    private void sendAll(List<OutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        int chunkSize = (batch.size() + dispatcherThreads - 1) / dispatcherThreads;
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int from = 0; from < batch.size(); from += chunkSize) {
+            List<OutboxMessage> chunk = batch.subList(from, Math.min(from + chunkSize, batch.size()));
+            tasks.add(() -> {
+                send(chunk);
+                return null;
+            });
+        }
+        try {
+            executor.invokeAll(tasks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(List<OutboxMessage> chunk) {
+        List<SmtpTransportPool.SendResult> results;
+        try {
+            results = emailService.sendEmails(chunk.stream()
+                    .map(message -> new EmailMessage(message.recipient(), message.subject(), message.body()))
+                    .toList());
+        } catch (MailProviderUnavailableException ex) {
+            defer(chunk, ex.getRetryAfter());
+            return;
+        } catch (Exception ex) {
+            chunk.forEach(message -> recordFailure(message, ex));
+            return;
+        }
+        for (int i = 0; i < chunk.size(); i++) {
+            OutboxMessage message = chunk.get(i);
+            SmtpTransportPool.SendResult result = results.get(i);
+            if (result.isSuccess()) {
+                sendSuccessTimer.record(result.durationNanos(), TimeUnit.NANOSECONDS);
+                transactionTemplate.executeWithoutResult(status ->
+                        emailOutboxRepository.markSent(message.id(), LocalDateTime.now()));
+            } else {
+                sendFailureTimer.record(result.durationNanos(), TimeUnit.NANOSECONDS);
+                recordFailure(message, result.error());
+            }
+        }
+    }
+
+    /**
+     * Puts emails back in the queue without counting an attempt, for when the mail circuit
+     * breaker is open.
+     */
+    private void defer(List<OutboxMessage> chunk, Duration retryAfter) {
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(retryAfter);
+        transactionTemplate.executeWithoutResult(status -> chunk.forEach(message ->
+                emailOutboxRepository.defer(message.id(), nextAttemptAt)));
+    }
+
+    private void recordFailure(OutboxMessage message, Exception ex) {
+        int attempts = message.attempts() + 1;
+        boolean giveUp = ex instanceof IllegalArgumentException || attempts >= maxAttempts;
+        EmailOutbox.Status status = giveUp ? EmailOutbox.Status.FAILED : EmailOutbox.Status.PENDING;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        String error = ex.getMessage() != null && ex.getMessage().length() > MAX_ERROR_LENGTH
+                ? ex.getMessage().substring(0, MAX_ERROR_LENGTH) : ex.getMessage();
+
+        transactionTemplate.executeWithoutResult(tx ->
+                emailOutboxRepository.markFailedAttempt(message.id(), status, nextAttemptAt, error));
+        if (giveUp) {
+            failedCounter.increment();
+            log.error("Giving up on outbox email {} after {} attempts: {}", message.id(), attempts, error);
+        } else {
+            log.warn("Outbox email {} failed (attempt {}), retrying at {}: {}", message.id(), attempts, nextAttemptAt, error);
+        }
+    }
+
+    /**
+     * Exponential backoff capped at the maximum, with up to 20% jitter so failed emails do
+     * not all retry at the same moment.
+     */
+    private Duration backoff(int attempts) {
+        long base = initialBackoff.toMillis() << Math.min(attempts - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+        return Duration.ofMillis(capped + jitter);
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = transactionTemplate.execute(status ->
+                emailOutboxRepository.findOldestUndeliveredCreatedAt().orElse(null));
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Detached copy of a claimed outbox row.
+     */
+    private record OutboxMessage(Long id, String recipient, String subject, String body, int attempts) {
+
+        static OutboxMessage from(EmailOutbox email) {
+            return new OutboxMessage(email.getId(), email.getRecipient(), email.getSubject(), email.getBody(),
+                    email.getAttempts());
+        }
+    }
+
+    /**
+     * Creates named daemon threads for the dispatcher pool.
+     */
+    private static final class DispatcherThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "email-outbox-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
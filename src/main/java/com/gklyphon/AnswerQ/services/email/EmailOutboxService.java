@@ -0,0 +1,38 @@
+package com.gklyphon.AnswerQ.services.email;
+
+import com.gklyphon.AnswerQ.models.EmailOutbox;
+import com.gklyphon.AnswerQ.repositories.IEmailOutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service that queues emails in the outbox table.
+ *
+ * <p>Called inside the business transaction, so the email is stored if and only if the
+ * change that triggered it commits. Delivery happens later on the
+ * {@link EmailOutboxDispatcher} threads, keeping SMTP off the request path.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Service
+public class EmailOutboxService {
+
+    private final IEmailOutboxRepository emailOutboxRepository;
+
+    public EmailOutboxService(IEmailOutboxRepository emailOutboxRepository) {
+        this.emailOutboxRepository = emailOutboxRepository;
+    }
+
+    /**
+     * Queues an email for delivery.
+     *
+     * @param to The recipient email address
+     * @param subject The subject of the email
+     * @param text The HTML content of the email
+     */
+    @Transactional
+    public void enqueue(String to, String subject, String text) {
+        emailOutboxRepository.save(new EmailOutbox(to, subject, text));
+    }
+}
@@ -1,12 +1,19 @@
 package com.gklyphon.AnswerQ.services.email;
 
+import com.gklyphon.AnswerQ.exceptions.exception.MailProviderUnavailableException;
 import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
 /**
  * Service for handling email operations.
  *
@@ -17,32 +24,96 @@ import org.springframework.util.StringUtils;
 public class EmailService {
 
     private final JavaMailSender emailSender;
+    private final SmtpTransportPool transportPool;
+    private final MailCircuitBreaker circuitBreaker;
 
-    public EmailService(JavaMailSender emailSender) {
+    public EmailService(JavaMailSender emailSender, SmtpTransportPool transportPool, MailCircuitBreaker circuitBreaker) {
         this.emailSender = emailSender;
+        this.transportPool = transportPool;
+        this.circuitBreaker = circuitBreaker;
     }
 
     /**
-     * Sends an email.
+     * Sends a batch of emails over a single pooled SMTP connection. Messages that fail
+     * validation are reported as failed and not sent; they do not stop the batch. Outcomes
+     * are reported to the {@link MailCircuitBreaker}.
      *
-     * @param to The recipient email address
-     * @param subject The subject of the email
-     * @param text The content of the email
-     * @throws MessagingException If an error occurs while creating or sending the email
-     * @throws IllegalArgumentException If any of the parameters are null or empty
+     * @param emails The emails to send
+     * @return One result per email, in the same order
+     * @throws MessagingException If no SMTP connection could be obtained
+     * @throws MailProviderUnavailableException If the mail circuit breaker is open
      */
-    public void sendEmail(String to, String subject, String text) throws MessagingException {
-        validateEmailParameters(to, subject, text);
+    public List<SmtpTransportPool.SendResult> sendEmails(List<EmailMessage> emails) throws MessagingException {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            throw new MailProviderUnavailableException("Mail provider is unavailable", circuitBreaker.getRemainingOpenTime());
+        }
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+        List<Integer> positions = new ArrayList<>(emails.size());
+        SmtpTransportPool.SendResult[] results = new SmtpTransportPool.SendResult[emails.size()];
+
+        for (int i = 0; i < emails.size(); i++) {
+            EmailMessage email = emails.get(i);
+            try {
+                validateEmailParameters(email.to(), email.subject(), email.text());
+                messages.add(createMessage(email));
+                positions.add(i);
+            } catch (MessagingException | IllegalArgumentException ex) {
+                results[i] = new SmtpTransportPool.SendResult(ex, 0);
+            }
+        }
+
+        if (messages.isEmpty()) {
+            circuitBreaker.releasePermission();
+            return Arrays.asList(results);
+        }
+        List<SmtpTransportPool.SendResult> sent;
         try {
-            MimeMessage message = emailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, true);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(text, true);
-            emailSender.send(message);
+            sent = transportPool.send(messages);
         } catch (MessagingException ex) {
+            // Every pooled connection is busy: a local limit that says nothing about the provider
+            circuitBreaker.releasePermission();
             throw ex;
         }
+        for (int i = 0; i < sent.size(); i++) {
+            SmtpTransportPool.SendResult result = sent.get(i);
+            recordOutcome(result);
+            results[positions.get(i)] = result;
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Reports a send to the circuit breaker. A rejected recipient means the provider is
+     * working, so it counts as a success; only other messaging errors, raised while
+     * connecting or talking to the server, count as failures.
+     *
+     * @param result The outcome of the send
+     */
+    private void recordOutcome(SmtpTransportPool.SendResult result) {
+        if (result.isSuccess() || result.error() instanceof SendFailedException) {
+            circuitBreaker.recordSuccess(result.durationNanos());
+        } else if (result.error() instanceof MessagingException) {
+            circuitBreaker.recordFailure();
+        } else {
+            circuitBreaker.releasePermission();
+        }
+    }
+
+    /**
+     * Builds an HTML MIME message.
+     *
+     * @param email The email to build
+     * @return The MIME message
+     * @throws MessagingException If the message cannot be built
+     */
+    private MimeMessage createMessage(EmailMessage email) throws MessagingException {
+        MimeMessage message = emailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        helper.setTo(email.to());
+        helper.setSubject(email.subject());
+        helper.setText(email.text(), true);
+        message.setSentDate(new Date());
+        return message;
     }
 
     /**
@@ -0,0 +1,105 @@
+package com.gklyphon.AnswerQ.services.email;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Email template compiled into literal segments and variable slots.
+ *
+ * <p>Placeholders use the {@code {{name}}} syntax. The source is parsed once; rendering only
+ * appends the precomputed literals and the HTML-escaped variable values to the target
+ * buffer.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String name;
+    private final String[] literals;
+    private final String[] variables;
+    private final int literalLength;
+
+    private EmailTemplate(String name, String[] literals, String[] variables) {
+        this.name = name;
+        this.literals = literals;
+        this.variables = variables;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Parses a template source.
+     *
+     * @param name   Template name, used in error messages
+     * @param source Template source
+     * @return The compiled template
+     * @throws IllegalArgumentException if a placeholder is not closed or has no name
+     */
+    public static EmailTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in email template " + name);
+            }
+            String variable = source.substring(open + OPEN.length(), close).trim();
+            if (variable.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder in email template " + name);
+            }
+            literals.add(source.substring(position, open));
+            variables.add(variable);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new EmailTemplate(name, literals.toArray(String[]::new), variables.toArray(String[]::new));
+    }
+
+    /**
+     * Appends the rendered template to a buffer.
+     *
+     * @param values Variable values; they are HTML-escaped
+     * @param out    Target buffer
+     * @throws IllegalArgumentException if a variable has no value
+     */
+    public void renderTo(Map<String, ?> values, StringBuilder out) {
+        out.ensureCapacity(out.length() + literalLength + variables.length * 32);
+        for (int i = 0; i < variables.length; i++) {
+            out.append(literals[i]);
+            Object value = values.get(variables[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing value for " + variables[i] + " in email template " + name);
+            }
+            appendEscaped(value.toString(), out);
+        }
+        out.append(literals[variables.length]);
+    }
+
+    private static void appendEscaped(String value, StringBuilder out) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+}
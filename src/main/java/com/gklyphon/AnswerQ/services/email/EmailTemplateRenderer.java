@@ -0,0 +1,93 @@
+package com.gklyphon.AnswerQ.services.email;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads and compiles the email templates under {@code templates/email} once at startup and
+ * renders them on demand.
+ *
+ * <p>Rendering reuses a per-thread buffer, so a burst of notifications allocates little more
+ * than the resulting strings.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class EmailTemplateRenderer {
+
+    public static final String VERIFICATION = "verification";
+    public static final String SIGN_IN_ALERT = "sign-in-alert";
+    public static final String SIGN_IN_DIGEST = "sign-in-digest";
+    public static final String EMAIL_UPDATED = "email-updated";
+    public static final String PASSWORD_UPDATED = "password-updated";
+
+    /**
+     * Format of the timestamps shown in emails.
+     */
+    public static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("MMMM dd, yyyy hh:mm a");
+
+    private static final String TEMPLATE_LOCATION = "classpath*:templates/email/*.html";
+    private static final String TEMPLATE_SUFFIX = ".html";
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private final Map<String, EmailTemplate> templates;
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(4096));
+
+    public EmailTemplateRenderer() {
+        this.templates = loadTemplates();
+        for (String required : new String[]{VERIFICATION, SIGN_IN_ALERT, SIGN_IN_DIGEST, EMAIL_UPDATED, PASSWORD_UPDATED}) {
+            if (!templates.containsKey(required)) {
+                throw new IllegalStateException("Missing email template " + required);
+            }
+        }
+    }
+
+    /**
+     * Renders a template.
+     *
+     * @param templateName Name of the template, its file name without extension
+     * @param values       Variable values; they are HTML-escaped
+     * @return The rendered HTML
+     * @throws IllegalArgumentException if the template does not exist or a variable is missing
+     */
+    public String render(String templateName, Map<String, ?> values) {
+        EmailTemplate template = templates.get(templateName);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown email template " + templateName);
+        }
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        template.renderTo(values, buffer);
+        String rendered = buffer.toString();
+        if (buffer.capacity() > MAX_RETAINED_BUFFER) {
+            buffers.remove();
+        }
+        return rendered;
+    }
+
+    private static Map<String, EmailTemplate> loadTemplates() {
+        Map<String, EmailTemplate> loaded = new HashMap<>();
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(TEMPLATE_LOCATION)) {
+                String fileName = resource.getFilename();
+                if (fileName == null) {
+                    continue;
+                }
+                String name = fileName.substring(0, fileName.length() - TEMPLATE_SUFFIX.length());
+                loaded.put(name, EmailTemplate.compile(name, resource.getContentAsString(StandardCharsets.UTF_8)));
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not load email templates", ex);
+        }
+        return Map.copyOf(loaded);
+    }
+}
@@ -0,0 +1,150 @@
+package com.gklyphon.AnswerQ.services.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Circuit breaker around the mail provider.
+ *
+ * <p>After {@code failureThreshold} consecutive failed or slow sends the circuit opens and no
+ * mail is sent for {@code openDuration}; queued emails stay in the outbox meanwhile. When that
+ * time has passed the circuit is half-open and lets a single probe through: success closes
+ * it, failure opens it again. The state is exported as the {@code email.circuit.state} gauge
+ * (0 closed, 1 half-open, 2 open).</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class MailCircuitBreaker {
+
+    /**
+     * State of the circuit.
+     */
+    public enum State {
+        CLOSED,
+        HALF_OPEN,
+        OPEN
+    }
+
+    private static final Logger log = LoggerFactory.getLogger(MailCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final long slowCallNanos;
+    private final Map<State, Counter> transitions = new EnumMap<>(State.class);
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    public MailCircuitBreaker(MeterRegistry meterRegistry,
+                              @Value("${email.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                              @Value("${email.circuit-breaker.open-duration:30s}") Duration openDuration,
+                              @Value("${email.circuit-breaker.slow-call-threshold:5s}") Duration slowCallThreshold) {
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        for (State target : State.values()) {
+            transitions.put(target, Counter.builder("email.circuit.transitions")
+                    .description("Mail circuit breaker state changes")
+                    .tag("to", target.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        Gauge.builder("email.circuit.state", this, breaker -> breaker.getState().ordinal())
+                .description("Mail circuit breaker state: 0 closed, 1 half-open, 2 open")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Asks permission to send. Moves an open circuit to half-open once the open duration has
+     * passed; a half-open circuit grants one probe at a time.
+     *
+     * @return true if a send may be attempted
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+            case OPEN -> false;
+        };
+    }
+
+    /**
+     * Records the outcome of a send that reached the provider. Sends slower than the slow
+     * call threshold count as failures.
+     *
+     * @param durationNanos Time the send took
+     */
+    public synchronized void recordSuccess(long durationNanos) {
+        if (durationNanos > slowCallNanos) {
+            recordFailure();
+            return;
+        }
+        consecutiveFailures = 0;
+        probeInFlight = false;
+        if (state != State.CLOSED) {
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    /**
+     * Records a send that failed because of the provider (connection, timeout or server error).
+     */
+    public synchronized void recordFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            openedAt = System.nanoTime();
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * Releases a half-open probe permission that was not used.
+     */
+    public synchronized void releasePermission() {
+        probeInFlight = false;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Gets the time left until an open circuit lets a probe through.
+     *
+     * @return Remaining open time, zero if the circuit is not open
+     */
+    public synchronized Duration getRemainingOpenTime() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openDurationNanos - (System.nanoTime() - openedAt)));
+    }
+
+    private void transitionTo(State target) {
+        log.warn("Mail circuit breaker {} -> {}", state, target);
+        state = target;
+        transitions.get(target).increment();
+    }
+}
@@ -0,0 +1,247 @@
+package com.gklyphon.AnswerQ.services.email;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of connected and authenticated SMTP transports.
+ *
+ * <p>Opening an SMTP connection costs a TCP handshake, STARTTLS and AUTH. The pool keeps up
+ * to {@code maxConnections} connections open and hands them out one batch at a time, so a
+ * batch of messages pays that cost at most once. Connections are recycled when they have been
+ * idle longer than {@code maxIdle}, after {@code maxMessagesPerConnection} messages (providers
+ * drop long-lived sessions), or when the server closes them.</p>
+ *
+ * <p>Exported metrics: {@code email.smtp.connections.opened}, {@code email.smtp.connections.open}
+ * and {@code email.smtp.connections.idle}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class SmtpTransportPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+    private final Session session;
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final int maxConnections;
+    private final long maxIdleNanos;
+    private final int maxMessagesPerConnection;
+    private final Duration borrowTimeout;
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger open = new AtomicInteger();
+    private final Counter openedCounter;
+
+    public SmtpTransportPool(Session session, String protocol, String host, int port, String username, String password,
+                             int maxConnections, Duration maxIdle, int maxMessagesPerConnection, Duration borrowTimeout,
+                             MeterRegistry meterRegistry) {
+        this.session = session;
+        this.protocol = protocol;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.maxConnections = maxConnections;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.borrowTimeout = borrowTimeout;
+        this.permits = new Semaphore(maxConnections, true);
+        this.openedCounter = Counter.builder("email.smtp.connections.opened")
+                .description("SMTP connections opened, including reconnects")
+                .register(meterRegistry);
+        Gauge.builder("email.smtp.connections.open", open, AtomicInteger::get)
+                .description("SMTP connections currently open")
+                .register(meterRegistry);
+        Gauge.builder("email.smtp.connections.idle", idle, BlockingDeque::size)
+                .description("Open SMTP connections waiting in the pool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sends messages over a single pooled connection, reconnecting when the connection
+     * reaches its message limit or breaks. A failed message does not stop the batch.
+     *
+     * @param messages Messages to send, in order
+     * @return One result per message, in the same order
+     * @throws MessagingException if no connection could be borrowed within the timeout
+     */
+    public List<SendResult> send(List<MimeMessage> messages) throws MessagingException {
+        List<SendResult> results = new ArrayList<>(messages.size());
+        if (messages.isEmpty()) {
+            return results;
+        }
+        acquirePermit();
+        PooledTransport connection = null;
+        try {
+            for (MimeMessage message : messages) {
+                long start = System.nanoTime();
+                try {
+                    if (connection == null || !connection.isReusable(System.nanoTime())) {
+                        discard(connection);
+                        connection = null;
+                        connection = takeIdleOrOpen();
+                    }
+                    message.saveChanges();
+                    connection.transport.sendMessage(message, message.getAllRecipients());
+                    connection.sent++;
+                    results.add(SendResult.success(System.nanoTime() - start));
+                } catch (MessagingException | RuntimeException ex) {
+                    results.add(SendResult.failure(ex, System.nanoTime() - start));
+                    if (connection != null && !connection.transport.isConnected()) {
+                        discard(connection);
+                        connection = null;
+                    }
+                }
+            }
+        } finally {
+            release(connection);
+            permits.release();
+        }
+        return results;
+    }
+
+    /**
+     * Closes connections that have been idle for longer than the idle limit.
+     */
+    @Scheduled(fixedDelayString = "${email.smtp-pool.eviction-interval:30s}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (PooledTransport connection : idle) {
+            if (!connection.isReusable(now) && idle.remove(connection)) {
+                discard(connection);
+            }
+        }
+    }
+
+    /**
+     * Closes every idle connection. Connections in use are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            discard(connection);
+        }
+    }
+
+    private void acquirePermit() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("No SMTP connection available within " + borrowTimeout);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", ex);
+        }
+    }
+
+    /**
+     * Takes the most recently used idle connection, so surplus connections age out, or
+     * opens a new one. Idle connections are checked once for liveness, since the server may
+     * have dropped them while they sat in the pool.
+     */
+    private PooledTransport takeIdleOrOpen() throws MessagingException {
+        long now = System.nanoTime();
+        PooledTransport connection;
+        while ((connection = idle.pollFirst()) != null) {
+            if (connection.isReusable(now) && connection.transport.isConnected()) {
+                return connection;
+            }
+            discard(connection);
+        }
+        Transport transport = session.getTransport(protocol);
+        transport.connect(host, port, username, password);
+        open.incrementAndGet();
+        openedCounter.increment();
+        return new PooledTransport(transport);
+    }
+
+    private void release(PooledTransport connection) {
+        if (connection == null) {
+            return;
+        }
+        connection.lastUsed = System.nanoTime();
+        if (connection.isReusable(connection.lastUsed) && idle.size() < maxConnections) {
+            idle.offerFirst(connection);
+        } else {
+            discard(connection);
+        }
+    }
+
+    private void discard(PooledTransport connection) {
+        if (connection == null) {
+            return;
+        }
+        open.decrementAndGet();
+        try {
+            connection.transport.close();
+        } catch (MessagingException ex) {
+            log.debug("Error closing SMTP connection: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * An open transport with its usage counters.
+     */
+    private final class PooledTransport {
+
+        private final Transport transport;
+        private int sent;
+        private long lastUsed = System.nanoTime();
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        /**
+         * Checks the message and idle limits. Liveness is not checked here because
+         * {@link Transport#isConnected()} costs a NOOP round trip.
+         */
+        private boolean isReusable(long now) {
+            return sent < maxMessagesPerConnection && now - lastUsed < maxIdleNanos;
+        }
+    }
+
+    /**
+     * Outcome of sending one message.
+     *
+     * @param error          The failure, or null if the message was accepted by the server
+     * @param durationNanos  Time spent on the message, including any reconnect
+     */
+    public record SendResult(Exception error, long durationNanos) {
+
+        static SendResult success(long durationNanos) {
+            return new SendResult(null, durationNanos);
+        }
+
+        static SendResult failure(Exception error, long durationNanos) {
+            return new SendResult(error, durationNanos);
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
@@ -4,10 +4,14 @@ import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
 import com.gklyphon.AnswerQ.models.Answer;
 import com.gklyphon.AnswerQ.repositories.IAnswerRepository;
 import com.gklyphon.AnswerQ.services.IAnswerService;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
+import com.gklyphon.AnswerQ.services.pagination.PageCounter;
+import com.gklyphon.AnswerQ.services.pagination.RowFilter;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,10 +27,14 @@ import java.util.NoSuchElementException;
 @Service
 public class AnswerServiceImpl implements IAnswerService {
 
+    private static final String TABLE = "answer";
+
     private final IAnswerRepository answerRepository;
+    private final PageCounter pageCounter;
 
-    public AnswerServiceImpl(IAnswerRepository answerRepository) {
+    public AnswerServiceImpl(IAnswerRepository answerRepository, PageCounter pageCounter) {
         this.answerRepository = answerRepository;
+        this.pageCounter = pageCounter;
     }
 
     /**
@@ -34,12 +42,30 @@ public class AnswerServiceImpl implements IAnswerService {
      *
      * @param questionId The ID of the question.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of answers for the question.
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<Answer> findAllByQuestion_Id(Long questionId, Pageable pageable) {
-        return answerRepository.findAllByQuestion_Id(questionId, pageable);
+    public Page<Answer> findAllByQuestion_Id(Long questionId, Pageable pageable, CountMode countMode) {
+        return pageCounter.page(pageable, countMode,
+                () -> answerRepository.findAllByQuestion_Id(questionId, pageable),
+                () -> answerRepository.findSliceByQuestion_Id(questionId, pageable),
+                RowFilter.eq(TABLE, "question_id", questionId));
+    }
+
+    /**
+     * Finds answers for the question after the given ID, for keyset pagination.
+     *
+     * @param questionId The question ID.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of answers for the question, ordered by ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Answer> findAllByQuestion_IdAfter(Long questionId, Long afterId, Pageable pageable) {
+        return answerRepository.findAllByQuestion_IdAndIdGreaterThanOrderByIdAsc(questionId, afterId, pageable);
     }
 
     /**
@@ -65,7 +91,23 @@ public class AnswerServiceImpl implements IAnswerService {
     @Override
     @Transactional(readOnly = true)
     public Page<Answer> findAll(Pageable pageable) {
-        return answerRepository.findAll(pageable);
+        return findAll(pageable, CountMode.EXACT);
+    }
+
+    /**
+     * Finds all answers with pagination.
+     *
+     * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
+     * @return A page of all answers.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Answer> findAll(Pageable pageable, CountMode countMode) {
+        return pageCounter.page(pageable, countMode,
+                () -> answerRepository.findAll(pageable),
+                () -> answerRepository.findSliceBy(pageable),
+                RowFilter.all(TABLE));
     }
 
     /**
@@ -101,7 +143,7 @@ public class AnswerServiceImpl implements IAnswerService {
         Answer originalAnswer = findById(id);
         try {
             BeanUtils.copyProperties(answer, originalAnswer, "id");
-            return answerRepository.save(answer);
+            return answerRepository.save(originalAnswer);
         } catch (ServiceException ex) {
             throw new ServiceException("Unexpected Service Error While Updating", ex);
         } catch (Exception ex) {
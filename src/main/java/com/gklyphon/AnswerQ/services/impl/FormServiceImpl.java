@@ -1,19 +1,29 @@
 package com.gklyphon.AnswerQ.services.impl;
 
+import com.gklyphon.AnswerQ.dtos.FormRenderDto;
 import com.gklyphon.AnswerQ.dtos.ResponseFormDto;
 import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
 import com.gklyphon.AnswerQ.mapper.IMapper;
 import com.gklyphon.AnswerQ.models.Form;
+import com.gklyphon.AnswerQ.repositories.IAnswerRepository;
 import com.gklyphon.AnswerQ.repositories.IFormRepository;
+import com.gklyphon.AnswerQ.repositories.IQuestionRepository;
 import com.gklyphon.AnswerQ.services.IFormService;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
+import com.gklyphon.AnswerQ.services.pagination.PageCounter;
+import com.gklyphon.AnswerQ.services.pagination.RowFilter;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for managing {@link Form} entities.
@@ -25,12 +35,21 @@ import java.util.NoSuchElementException;
 @Service
 public class FormServiceImpl implements IFormService {
 
+    private static final String TABLE = "form";
+
     private final IFormRepository formRepository;
+    private final IQuestionRepository questionRepository;
+    private final IAnswerRepository answerRepository;
     private final IMapper mapper;
+    private final PageCounter pageCounter;
 
-    public FormServiceImpl(IFormRepository formRepository, IMapper mapper) {
+    public FormServiceImpl(IFormRepository formRepository, IQuestionRepository questionRepository,
+                           IAnswerRepository answerRepository, IMapper mapper, PageCounter pageCounter) {
         this.formRepository = formRepository;
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
         this.mapper = mapper;
+        this.pageCounter = pageCounter;
     }
 
     /**
@@ -38,12 +57,31 @@ public class FormServiceImpl implements IFormService {
      *
      * @param userId The ID of the user.
      * @param pageable Pagination parameters.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of forms created by the user.
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<ResponseFormDto> findAllByUser_Id(Long userId, Pageable pageable) {
-        Page<Form> forms = formRepository.findAllByUser_Id(userId, pageable);
+    public Page<ResponseFormDto> findAllByUser_Id(Long userId, Pageable pageable, CountMode countMode) {
+        Page<Form> forms = pageCounter.page(pageable, countMode,
+                () -> formRepository.findAllByUser_Id(userId, pageable),
+                () -> formRepository.findSliceByUser_Id(userId, pageable),
+                RowFilter.eq(TABLE, "user_id", userId));
+        return forms.map(mapper::fromFormToResponseFormDto);
+    }
+
+    /**
+     * Finds forms created by the user after the given ID, for keyset pagination.
+     *
+     * @param userId The user ID.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of forms created by the user, ordered by ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<ResponseFormDto> findAllByUser_IdAfter(Long userId, Long afterId, Pageable pageable) {
+        Slice<Form> forms = formRepository.findAllByUser_IdAndIdGreaterThanOrderByIdAsc(userId, afterId, pageable);
         return forms.map(mapper::fromFormToResponseFormDto);
     }
 
@@ -61,6 +99,36 @@ public class FormServiceImpl implements IFormService {
                 formRepository.findById(id).orElseThrow(() -> new ElementNotFoundException("Form not found.")));
     }
 
+    /**
+     * Loads a form tree with three queries regardless of its size: the form columns, the
+     * columns of all its questions and the columns of all their answers. The tree is
+     * assembled in memory, so no entity or lazy collection is loaded.
+     *
+     * @param id The ID of the form.
+     * @return The form tree.
+     * @throws ElementNotFoundException if no form is found.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public FormRenderDto findRenderById(Long id) throws ElementNotFoundException {
+        IFormRepository.RenderView form = formRepository.findRenderViewById(id)
+                .orElseThrow(() -> new ElementNotFoundException("Form not found."));
+
+        Map<Long, List<FormRenderDto.AnswerRenderDto>> answersByQuestion = answerRepository.findRenderViewsByFormId(id)
+                .stream()
+                .collect(Collectors.groupingBy(IAnswerRepository.RenderView::getQuestionId,
+                        Collectors.mapping(answer -> new FormRenderDto.AnswerRenderDto(answer.getId(), answer.getContent()),
+                                Collectors.toList())));
+
+        List<FormRenderDto.QuestionRenderDto> questions = questionRepository.findRenderViewsByFormId(id)
+                .stream()
+                .map(question -> new FormRenderDto.QuestionRenderDto(question.getId(), question.getContent(),
+                        question.isRequired(), answersByQuestion.getOrDefault(question.getId(), List.of())))
+                .toList();
+
+        return new FormRenderDto(form.getId(), form.getName(), form.isEnabled(), questions);
+    }
+
     /**
      * Finds all forms with pagination.
      *
@@ -70,7 +138,23 @@ public class FormServiceImpl implements IFormService {
     @Override
     @Transactional(readOnly = true)
     public Page<ResponseFormDto> findAll(Pageable pageable) {
-        Page<Form> forms = formRepository.findAll(pageable);
+        return findAll(pageable, CountMode.EXACT);
+    }
+
+    /**
+     * Finds all forms with pagination.
+     *
+     * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
+     * @return A page of all forms.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ResponseFormDto> findAll(Pageable pageable, CountMode countMode) {
+        Page<Form> forms = pageCounter.page(pageable, countMode,
+                () -> formRepository.findAll(pageable),
+                () -> formRepository.findSliceBy(pageable),
+                RowFilter.all(TABLE));
         return forms.map(mapper::fromFormToResponseFormDto);
     }
 
@@ -4,10 +4,14 @@ import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
 import com.gklyphon.AnswerQ.models.Question;
 import com.gklyphon.AnswerQ.repositories.IQuestionRepository;
 import com.gklyphon.AnswerQ.services.IQuestionService;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
+import com.gklyphon.AnswerQ.services.pagination.PageCounter;
+import com.gklyphon.AnswerQ.services.pagination.RowFilter;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,10 +27,14 @@ import java.util.NoSuchElementException;
 @Service
 public class QuestionServiceImpl implements IQuestionService {
 
+    private static final String TABLE = "question";
+
     private final IQuestionRepository questionRepository;
+    private final PageCounter pageCounter;
 
-    public QuestionServiceImpl(IQuestionRepository questionRepository) {
+    public QuestionServiceImpl(IQuestionRepository questionRepository, PageCounter pageCounter) {
         this.questionRepository = questionRepository;
+        this.pageCounter = pageCounter;
     }
 
     /**
@@ -34,12 +42,30 @@ public class QuestionServiceImpl implements IQuestionService {
      *
      * @param id The form ID.
      * @param pageable Pagination parameters.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of questions belonging to the specified form.
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<Question> findAllByForm_Id(Long id, Pageable pageable) {
-        return questionRepository.findAllByForm_Id(id, pageable);
+    public Page<Question> findAllByForm_Id(Long id, Pageable pageable, CountMode countMode) {
+        return pageCounter.page(pageable, countMode,
+                () -> questionRepository.findAllByForm_Id(id, pageable),
+                () -> questionRepository.findSliceByForm_Id(id, pageable),
+                RowFilter.eq(TABLE, "form_id", id));
+    }
+
+    /**
+     * Finds questions belonging to the specified form after the given ID, for keyset pagination.
+     *
+     * @param id The form ID.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of questions belonging to the specified form, ordered by ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<Question> findAllByForm_IdAfter(Long id, Long afterId, Pageable pageable) {
+        return questionRepository.findAllByForm_IdAndIdGreaterThanOrderByIdAsc(id, afterId, pageable);
     }
 
     /**
@@ -65,7 +91,23 @@ public class QuestionServiceImpl implements IQuestionService {
     @Override
     @Transactional(readOnly = true)
     public Page<Question> findAll(Pageable pageable) {
-        return questionRepository.findAll(pageable);
+        return findAll(pageable, CountMode.EXACT);
+    }
+
+    /**
+     * Finds all questions with pagination.
+     *
+     * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
+     * @return A page of all questions.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Question> findAll(Pageable pageable, CountMode countMode) {
+        return pageCounter.page(pageable, countMode,
+                () -> questionRepository.findAll(pageable),
+                () -> questionRepository.findSliceBy(pageable),
+                RowFilter.all(TABLE));
     }
 
     /**
@@ -1,17 +1,36 @@
 package com.gklyphon.AnswerQ.services.impl;
 
+import com.gklyphon.AnswerQ.dtos.FormSubmissionDto;
 import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidSubmissionException;
 import com.gklyphon.AnswerQ.models.*;
+import com.gklyphon.AnswerQ.repositories.IAnswerRepository;
+import com.gklyphon.AnswerQ.repositories.IFormRepository;
+import com.gklyphon.AnswerQ.repositories.IQuestionRepository;
 import com.gklyphon.AnswerQ.repositories.IUserAnswerRepository;
+import com.gklyphon.AnswerQ.repositories.IUserRepository;
+import com.gklyphon.AnswerQ.responses.FormSubmissionResponse;
 import com.gklyphon.AnswerQ.services.IUserAnswerService;
+import com.gklyphon.AnswerQ.services.pagination.CountMode;
+import com.gklyphon.AnswerQ.services.pagination.PageCounter;
+import com.gklyphon.AnswerQ.services.pagination.RowFilter;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Service implementation for managing {@link UserAnswer} entities.
@@ -23,10 +42,24 @@ import java.util.NoSuchElementException;
 @Service
 public class UserAnswerServiceImpl implements IUserAnswerService {
 
+    private static final String TABLE = "user_answer";
+
     private final IUserAnswerRepository userAnswerRepository;
+    private final IFormRepository formRepository;
+    private final IQuestionRepository questionRepository;
+    private final IAnswerRepository answerRepository;
+    private final IUserRepository userRepository;
+    private final PageCounter pageCounter;
 
-    public UserAnswerServiceImpl(IUserAnswerRepository userAnswerRepository) {
+    public UserAnswerServiceImpl(IUserAnswerRepository userAnswerRepository, IFormRepository formRepository,
+                                 IQuestionRepository questionRepository, IAnswerRepository answerRepository,
+                                 IUserRepository userRepository, PageCounter pageCounter) {
         this.userAnswerRepository = userAnswerRepository;
+        this.formRepository = formRepository;
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.userRepository = userRepository;
+        this.pageCounter = pageCounter;
     }
 
     /**
@@ -34,12 +67,16 @@ public class UserAnswerServiceImpl implements IUserAnswerService {
      *
      * @param formId The form ID.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of user answers related to the form.
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<UserAnswer> findAllByForm(Long formId, Pageable pageable) {
-        return userAnswerRepository.findAllByForm_Id(formId, pageable);
+    public Page<UserAnswer> findAllByForm(Long formId, Pageable pageable, CountMode countMode) {
+        return pageCounter.page(pageable, countMode,
+                () -> userAnswerRepository.findAllByForm_Id(formId, pageable),
+                () -> userAnswerRepository.findSliceByForm_Id(formId, pageable),
+                RowFilter.eq(TABLE, "form_id", formId));
     }
 
     /**
@@ -47,12 +84,16 @@ public class UserAnswerServiceImpl implements IUserAnswerService {
      *
      * @param userId The user ID.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of user answers related to the user.
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<UserAnswer> findAllByUser(Long userId, Pageable pageable) {
-        return userAnswerRepository.findAllByUser_Id(userId, pageable);
+    public Page<UserAnswer> findAllByUser(Long userId, Pageable pageable, CountMode countMode) {
+        return pageCounter.page(pageable, countMode,
+                () -> userAnswerRepository.findAllByUser_Id(userId, pageable),
+                () -> userAnswerRepository.findSliceByUser_Id(userId, pageable),
+                RowFilter.eq(TABLE, "user_id", userId));
     }
 
     /**
@@ -60,12 +101,16 @@ public class UserAnswerServiceImpl implements IUserAnswerService {
      *
      * @param questionId The question ID.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of user answers related to the question.
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<UserAnswer> findAllByQuestion(Long questionId, Pageable pageable) {
-        return userAnswerRepository.findAllByQuestion_Id(questionId, pageable);
+    public Page<UserAnswer> findAllByQuestion(Long questionId, Pageable pageable, CountMode countMode) {
+        return pageCounter.page(pageable, countMode,
+                () -> userAnswerRepository.findAllByQuestion_Id(questionId, pageable),
+                () -> userAnswerRepository.findSliceByQuestion_Id(questionId, pageable),
+                RowFilter.eq(TABLE, "question_id", questionId));
     }
 
     /**
@@ -73,12 +118,72 @@ public class UserAnswerServiceImpl implements IUserAnswerService {
      *
      * @param answerId The answer ID.
      * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
      * @return A page of user answers related to the answer.
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<UserAnswer> findAllByAnswer(Long answerId, Pageable pageable) {
-        return userAnswerRepository.findAllByAnswer_Id(answerId, pageable);
+    public Page<UserAnswer> findAllByAnswer(Long answerId, Pageable pageable, CountMode countMode) {
+        return pageCounter.page(pageable, countMode,
+                () -> userAnswerRepository.findAllByAnswer_Id(answerId, pageable),
+                () -> userAnswerRepository.findSliceByAnswer_Id(answerId, pageable),
+                RowFilter.eq(TABLE, "answer_id", answerId));
+    }
+
+    /**
+     * Finds user answers for the form after the given ID, for keyset pagination.
+     *
+     * @param formId The form ID.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of user answers for the form, ordered by ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<UserAnswer> findAllByFormAfter(Long formId, Long afterId, Pageable pageable) {
+        return userAnswerRepository.findAllByForm_IdAndIdGreaterThanOrderByIdAsc(formId, afterId, pageable);
+    }
+
+    /**
+     * Finds user answers by the user after the given ID, for keyset pagination.
+     *
+     * @param userId The user ID.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of user answers by the user, ordered by ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<UserAnswer> findAllByUserAfter(Long userId, Long afterId, Pageable pageable) {
+        return userAnswerRepository.findAllByUser_IdAndIdGreaterThanOrderByIdAsc(userId, afterId, pageable);
+    }
+
+    /**
+     * Finds user answers for the question after the given ID, for keyset pagination.
+     *
+     * @param questionId The question ID.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of user answers for the question, ordered by ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<UserAnswer> findAllByQuestionAfter(Long questionId, Long afterId, Pageable pageable) {
+        return userAnswerRepository.findAllByQuestion_IdAndIdGreaterThanOrderByIdAsc(questionId, afterId, pageable);
+    }
+
+    /**
+     * Finds user answers for the answer after the given ID, for keyset pagination.
+     *
+     * @param answerId The answer ID.
+     * @param afterId The ID to continue after.
+     * @param pageable Page size.
+     * @return A slice of user answers for the answer, ordered by ID.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<UserAnswer> findAllByAnswerAfter(Long answerId, Long afterId, Pageable pageable) {
+        return userAnswerRepository.findAllByAnswer_IdAndIdGreaterThanOrderByIdAsc(answerId, afterId, pageable);
     }
 
     /**
@@ -104,7 +209,23 @@ public class UserAnswerServiceImpl implements IUserAnswerService {
     @Override
     @Transactional(readOnly = true)
     public Page<UserAnswer> findAll(Pageable pageable) {
-        return userAnswerRepository.findAll(pageable);
+        return findAll(pageable, CountMode.EXACT);
+    }
+
+    /**
+     * Finds all user answers with pagination.
+     *
+     * @param pageable Pagination information.
+     * @param countMode How the total number of elements is obtained.
+     * @return A page of all user answers.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<UserAnswer> findAll(Pageable pageable, CountMode countMode) {
+        return pageCounter.page(pageable, countMode,
+                () -> userAnswerRepository.findAll(pageable),
+                () -> userAnswerRepository.findSliceBy(pageable),
+                RowFilter.all(TABLE));
     }
 
     /**
@@ -126,6 +247,83 @@ public class UserAnswerServiceImpl implements IUserAnswerService {
         }
     }
 
+    /**
+     * Stores a whole form submission in one transaction.
+     *
+     * <p>The form structure is read with three projection queries and the submission is
+     * validated against it in memory, reporting every problem at once. The rows are then
+     * saved together, so with pooled IDs they go out as JDBC batches; questions, answers,
+     * the form and the user are referenced by ID without being loaded.</p>
+     *
+     * @param formId The form ID.
+     * @param userId The respondent ID.
+     * @param submission The answers.
+     * @return The number of stored answers.
+     * @throws ElementNotFoundException if the form does not exist.
+     */
+    @Override
+    @Transactional
+    public FormSubmissionResponse submit(Long formId, Long userId, FormSubmissionDto submission) throws ElementNotFoundException {
+        IFormRepository.RenderView form = formRepository.findRenderViewById(formId)
+                .orElseThrow(() -> new ElementNotFoundException("Form not found."));
+        if (!form.isEnabled()) {
+            throw new InvalidSubmissionException(Map.of("form", "Form is not accepting responses"));
+        }
+        validate(submission, questionRepository.findRenderViewsByFormId(formId),
+                answerRepository.findRenderViewsByFormId(formId));
+
+        Form formReference = formRepository.getReferenceById(formId);
+        User userReference = userRepository.getReferenceById(userId);
+        LocalDate answeredAt = LocalDate.now();
+        List<UserAnswer> userAnswers = new ArrayList<>(submission.answers().size());
+        for (FormSubmissionDto.AnswerItem item : submission.answers()) {
+            Answer answer = item.answerId() != null ? answerRepository.getReferenceById(item.answerId()) : null;
+            userAnswers.add(new UserAnswer(null, formReference, questionRepository.getReferenceById(item.questionId()),
+                    answer, userReference, answeredAt));
+        }
+        userAnswerRepository.saveAll(userAnswers);
+        return new FormSubmissionResponse(formId, userAnswers.size());
+    }
+
+    /**
+     * Checks a submission against the form structure: every question belongs to the form and
+     * is answered once, selected options belong to their question, questions with options
+     * have one selected, and every required question is answered.
+     */
+    private static void validate(FormSubmissionDto submission, List<IQuestionRepository.RenderView> questions,
+                                 List<IAnswerRepository.RenderView> answers) {
+        Map<Long, IQuestionRepository.RenderView> questionsById = new HashMap<>();
+        questions.forEach(question -> questionsById.put(question.getId(), question));
+        Map<Long, Long> questionIdByAnswerId = new HashMap<>();
+        answers.forEach(answer -> questionIdByAnswerId.put(answer.getId(), answer.getQuestionId()));
+        Set<Long> questionsWithOptions = new HashSet<>(questionIdByAnswerId.values());
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        Set<Long> answered = new HashSet<>();
+        List<FormSubmissionDto.AnswerItem> items = submission.answers();
+        for (int i = 0; i < items.size(); i++) {
+            FormSubmissionDto.AnswerItem item = items.get(i);
+            String field = "answers[" + i + "]";
+            if (!questionsById.containsKey(item.questionId())) {
+                errors.put(field, "Question " + item.questionId() + " does not belong to this form");
+            } else if (!answered.add(item.questionId())) {
+                errors.put(field, "Question " + item.questionId() + " is answered more than once");
+            } else if (item.answerId() != null && !item.questionId().equals(questionIdByAnswerId.get(item.answerId()))) {
+                errors.put(field, "Answer " + item.answerId() + " is not an option of question " + item.questionId());
+            } else if (item.answerId() == null && questionsWithOptions.contains(item.questionId())) {
+                errors.put(field, "Question " + item.questionId() + " requires an answer option");
+            }
+        }
+        for (IQuestionRepository.RenderView question : questions) {
+            if (question.isRequired() && !answered.contains(question.getId())) {
+                errors.put("questions[" + question.getId() + "]", "Question " + question.getId() + " is required");
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new InvalidSubmissionException(errors);
+        }
+    }
+
     /**
      * Updates an existing user answer by ID.
      *
@@ -8,6 +8,7 @@ import com.gklyphon.AnswerQ.models.UserAnswer;
 import com.gklyphon.AnswerQ.repositories.IUserRepository;
 import com.gklyphon.AnswerQ.services.IUserAnswerService;
 import com.gklyphon.AnswerQ.services.IUserService;
+import com.gklyphon.AnswerQ.services.security.UserDetailsCache;
 import org.hibernate.service.spi.ServiceException;
 import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
@@ -29,11 +30,13 @@ public class UserServiceImpl implements IUserService {
     private final IUserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final IMapper mapper;
+    private final UserDetailsCache userDetailsCache;
 
-    public UserServiceImpl(IUserRepository userRepository, PasswordEncoder passwordEncoder, IMapper mapper) {
+    public UserServiceImpl(IUserRepository userRepository, PasswordEncoder passwordEncoder, IMapper mapper, UserDetailsCache userDetailsCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.mapper = mapper;
+        this.userDetailsCache = userDetailsCache;
     }
 
     /**
@@ -111,9 +114,11 @@ public class UserServiceImpl implements IUserService {
     public ResponseUserDto update(Long id, User user) throws Exception {
         User originalUser = userRepository.findById(id)
                 .orElseThrow(() -> new ElementNotFoundException("User not found"));
+        String originalEmail = originalUser.getEmail();
         try {
 
             BeanUtils.copyProperties(user, originalUser, "id", "password");
+            userDetailsCache.evict(originalEmail, originalUser.getEmail());
             return mapper.fromUserToUserDto(userRepository.save(originalUser));
         } catch (ServiceException ex) {
             throw new ServiceException("Unexpected service error while updating user.", ex);
@@ -131,9 +136,10 @@ public class UserServiceImpl implements IUserService {
     @Override
     @Transactional
     public void delete(Long id) throws Exception {
-        findById(id);
+        ResponseUserDto user = findById(id);
         try {
             userRepository.deleteById(id);
+            userDetailsCache.evict(user.getEmail());
         } catch (ServiceException ex) {
             throw new ServiceException("Unexpected service error while deleting user.", ex);
         } catch (Exception ex) {
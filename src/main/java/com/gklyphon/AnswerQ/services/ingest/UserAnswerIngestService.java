@@ -0,0 +1,454 @@
+package com.gklyphon.AnswerQ.services.ingest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.AnswerQ.models.UserAnswer;
+import com.gklyphon.AnswerQ.repositories.IAnswerRepository;
+import com.gklyphon.AnswerQ.repositories.IFormRepository;
+import com.gklyphon.AnswerQ.repositories.IQuestionRepository;
+import com.gklyphon.AnswerQ.repositories.IUserRepository;
+import com.gklyphon.AnswerQ.responses.BulkIngestResponse;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stores user answers uploaded as NDJSON: one JSON object per line with {@code formId},
+ * {@code questionId}, {@code answerId} (optional), {@code userId} and {@code answeredAt}
+ * (optional ISO date, defaults to today).
+ *
+ * <p>The body is read line by line and each line is parsed with Jackson's streaming parser,
+ * so only one chunk of rows is held in memory at a time. Lines longer than the configured
+ * maximum are rejected without being buffered. Each chunk is validated with the same rules as
+ * a form submission, using the structure of every form loaded once per upload and one query
+ * for the chunk's users, and the valid rows are written with a single PostgreSQL {@code COPY}.
+ * Rows that fail are skipped and reported by line number.</p>
+ *
+ * <p>Every chunk is committed in its own transaction, so a slow upload does not hold a
+ * connection, a transaction or locks on the referenced rows for its whole duration. A chunk
+ * that fails in the database is rolled back and its rows are reported as not stored; chunks
+ * already committed stay stored.</p>
+ *
+ * <p>Required questions are not checked: an upload holds answers of many respondents, not
+ * complete submissions.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Service
+public class UserAnswerIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserAnswerIngestService.class);
+    private static final String COPY_SQL = "COPY user_answer (id, form_id, question_id, answer_id, user_id, answered_at, created_at) "
+            + "FROM STDIN WITH (FORMAT csv)";
+    private static final String RESERVE_IDS_SQL = "select nextval('user_answer_seq') from generate_series(1, ?)";
+
+    private final IFormRepository formRepository;
+    private final IQuestionRepository questionRepository;
+    private final IAnswerRepository answerRepository;
+    private final IUserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFactory jsonFactory;
+    private final int chunkSize;
+    private final int maxLineLength;
+    private final int maxReportedErrors;
+
+    public UserAnswerIngestService(IFormRepository formRepository, IQuestionRepository questionRepository,
+                                   IAnswerRepository answerRepository, IUserRepository userRepository,
+                                   JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   ObjectMapper objectMapper,
+                                   @Value("${user-answers.bulk.chunk-size:5000}") int chunkSize,
+                                   @Value("${user-answers.bulk.max-line-length:8192}") int maxLineLength,
+                                   @Value("${user-answers.bulk.max-reported-errors:1000}") int maxReportedErrors) {
+        this.formRepository = formRepository;
+        this.questionRepository = questionRepository;
+        this.answerRepository = answerRepository;
+        this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jsonFactory = objectMapper.getFactory();
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * Reads an NDJSON upload and stores every valid line.
+     *
+     * @param body The request body.
+     * @return How many lines were read, stored and rejected, with the reason for each rejection.
+     * @throws IOException If the body cannot be read.
+     */
+    public BulkIngestResponse ingest(InputStream body) throws IOException {
+        Upload upload = new Upload();
+        LineReader reader = new LineReader(new InputStreamReader(body, StandardCharsets.UTF_8), maxLineLength);
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.next()) != null) {
+            lineNumber++;
+            if (reader.isTooLong()) {
+                upload.lines++;
+                upload.reject(lineNumber, "Line is longer than " + maxLineLength + " characters");
+                continue;
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            upload.lines++;
+            try {
+                chunk.add(parse(lineNumber, line));
+            } catch (InvalidLineException ex) {
+                upload.reject(lineNumber, ex.getMessage());
+            }
+            if (chunk.size() == chunkSize) {
+                write(chunk, upload);
+                chunk.clear();
+            }
+        }
+        write(chunk, upload);
+        return upload.toResponse();
+    }
+
+    /**
+     * Reads the fields of one line, ignoring unknown ones.
+     */
+    private Row parse(long lineNumber, String line) throws IOException, InvalidLineException {
+        Long formId = null;
+        Long questionId = null;
+        Long answerId = null;
+        Long userId = null;
+        LocalDate answeredAt = null;
+        try (JsonParser parser = jsonFactory.createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new InvalidLineException("Line is not a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "formId" -> formId = readId(parser, value, field);
+                    case "questionId" -> questionId = readId(parser, value, field);
+                    case "answerId" -> answerId = readId(parser, value, field);
+                    case "userId" -> userId = readId(parser, value, field);
+                    case "answeredAt" -> answeredAt = readDate(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (parser.nextToken() != null) {
+                throw new InvalidLineException("Unexpected content after the JSON object");
+            }
+        } catch (JsonProcessingException ex) {
+            throw new InvalidLineException("Malformed JSON: " + ex.getOriginalMessage());
+        }
+        if (formId == null || questionId == null || userId == null) {
+            throw new InvalidLineException("formId, questionId and userId are required");
+        }
+        return new Row(lineNumber, formId, questionId, answerId, userId, answeredAt);
+    }
+
+    private static Long readId(JsonParser parser, JsonToken value, String field) throws IOException, InvalidLineException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value != JsonToken.VALUE_NUMBER_INT) {
+            throw new InvalidLineException(field + " must be an integer");
+        }
+        return parser.getLongValue();
+    }
+
+    private static LocalDate readDate(JsonParser parser, JsonToken value) throws IOException, InvalidLineException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        try {
+            if (value == JsonToken.VALUE_STRING) {
+                return LocalDate.parse(parser.getText());
+            }
+        } catch (DateTimeParseException ignored) {
+            // reported below
+        }
+        throw new InvalidLineException("answeredAt must be an ISO date (yyyy-MM-dd)");
+    }
+
+    /**
+     * Validates a chunk and copies its valid rows, in a transaction of its own.
+     */
+    private void write(List<Row> chunk, Upload upload) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<BulkIngestResponse.LineError> rejections = new ArrayList<>();
+        int inserted;
+        try {
+            inserted = transactionTemplate.execute(status -> writeChunk(chunk, upload, rejections));
+        } catch (DataAccessException ex) {
+            log.warn("Bulk upload chunk of lines {}-{} was not stored: {}", chunk.get(0).line(),
+                    chunk.get(chunk.size() - 1).line(), ex.getMessage());
+            chunk.forEach(row -> upload.reject(row.line(), "Not stored: database error"));
+            return;
+        }
+        rejections.forEach(rejection -> upload.reject(rejection.line(), rejection.message()));
+        upload.inserted += inserted;
+    }
+
+    /**
+     * Validates a chunk and copies its valid rows.
+     *
+     * @return The number of rows copied
+     */
+    private int writeChunk(List<Row> chunk, Upload upload, List<BulkIngestResponse.LineError> rejections) {
+        Set<Long> userIds = new HashSet<>();
+        chunk.forEach(row -> userIds.add(row.userId()));
+        Set<Long> existingUserIds = new HashSet<>(userRepository.findExistingIds(userIds));
+
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            FormStructure form = upload.forms.computeIfAbsent(row.formId(), this::loadStructure);
+            String error = validate(row, form, existingUserIds);
+            if (error != null) {
+                rejections.add(new BulkIngestResponse.LineError(row.line(), error));
+            } else {
+                valid.add(row);
+            }
+        }
+        copy(valid);
+        return valid.size();
+    }
+
+    private FormStructure loadStructure(Long formId) {
+        return formRepository.findRenderViewById(formId)
+                .map(form -> FormStructure.of(form.isEnabled(), questionRepository.findRenderViewsByFormId(formId),
+                        answerRepository.findRenderViewsByFormId(formId)))
+                .orElse(FormStructure.MISSING);
+    }
+
+    /**
+     * Checks one row against its form, as a form submission would.
+     *
+     * @return The reason the row is rejected, or null if it is valid
+     */
+    private static String validate(Row row, FormStructure form, Set<Long> existingUserIds) {
+        if (!form.exists()) {
+            return "Form " + row.formId() + " does not exist";
+        }
+        if (!form.enabled()) {
+            return "Form " + row.formId() + " is not accepting responses";
+        }
+        if (!form.questionIds().contains(row.questionId())) {
+            return "Question " + row.questionId() + " does not belong to form " + row.formId();
+        }
+        if (row.answerId() != null && !row.questionId().equals(form.questionIdByAnswerId().get(row.answerId()))) {
+            return "Answer " + row.answerId() + " is not an option of question " + row.questionId();
+        }
+        if (row.answerId() == null && form.questionsWithOptions().contains(row.questionId())) {
+            return "Question " + row.questionId() + " requires an answer option";
+        }
+        if (!existingUserIds.contains(row.userId())) {
+            return "User " + row.userId() + " does not exist";
+        }
+        return null;
+    }
+
+    /**
+     * Writes rows with one {@code COPY ... FROM STDIN} on the transaction's connection.
+     */
+    private void copy(List<Row> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        long[] ids = reserveIds(rows.size());
+        LocalDate today = LocalDate.now();
+        String createdAt = LocalDateTime.now().toString();
+        StringBuilder csv = new StringBuilder(rows.size() * 64);
+        for (int i = 0; i < rows.size(); i++) {
+            Row row = rows.get(i);
+            csv.append(ids[i]).append(',')
+                    .append(row.formId()).append(',')
+                    .append(row.questionId()).append(',');
+            if (row.answerId() != null) {
+                csv.append(row.answerId());
+            }
+            csv.append(',').append(row.userId()).append(',')
+                    .append(row.answeredAt() != null ? row.answeredAt() : today).append(',')
+                    .append(createdAt).append('\n');
+        }
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(csv.toString()));
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+    }
+
+    /**
+     * Takes IDs from {@code user_answer_seq} the way Hibernate's pooled optimizer does: each
+     * {@code nextval} returns the highest ID of a block of {@link UserAnswer#ID_ALLOCATION_SIZE}
+     * IDs, so these never collide with IDs assigned by the application.
+     */
+    private long[] reserveIds(int count) {
+        long[] ids = new long[count];
+        int next = 0;
+        while (next < count) {
+            int blocks = (count - next + UserAnswer.ID_ALLOCATION_SIZE - 1) / UserAnswer.ID_ALLOCATION_SIZE;
+            for (Long high : jdbcTemplate.queryForList(RESERVE_IDS_SQL, Long.class, blocks)) {
+                // the first value of a new sequence starts a block of its own
+                for (long id = Math.max(1, high - UserAnswer.ID_ALLOCATION_SIZE + 1); id <= high && next < count; id++) {
+                    ids[next++] = id;
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Reads the body line by line, like {@link java.io.BufferedReader#readLine()}, but keeps at
+     * most {@code maxLength} characters of a line: the rest of a longer line is skipped.
+     */
+    private static final class LineReader {
+
+        private final Reader reader;
+        private final int maxLength;
+        private final char[] buffer = new char[8192];
+        private final StringBuilder line = new StringBuilder();
+        private int position;
+        private int limit;
+        private boolean tooLong;
+
+        private LineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        /**
+         * @return The next line without its terminator, or null at the end of the body
+         */
+        private String next() throws IOException {
+            line.setLength(0);
+            tooLong = false;
+            boolean read = false;
+            int c;
+            while ((c = read()) != -1) {
+                read = true;
+                if (c == '\n') {
+                    return line.toString();
+                }
+                if (c == '\r') {
+                    continue;
+                }
+                if (line.length() < maxLength) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            return read ? line.toString() : null;
+        }
+
+        /**
+         * @return Whether the last line returned was cut at the maximum length
+         */
+        private boolean isTooLong() {
+            return tooLong;
+        }
+
+        private int read() throws IOException {
+            if (position == limit) {
+                limit = reader.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+            }
+            return buffer[position++];
+        }
+    }
+
+    /**
+     * A parsed line of the upload.
+     */
+    private record Row(long line, Long formId, Long questionId, Long answerId, Long userId, LocalDate answeredAt) {
+    }
+
+    /**
+     * The parts of a form needed to validate its answers.
+     */
+    private record FormStructure(boolean exists, boolean enabled, Set<Long> questionIds, Map<Long, Long> questionIdByAnswerId,
+                                 Set<Long> questionsWithOptions) {
+
+        static final FormStructure MISSING = new FormStructure(false, false, Set.of(), Map.of(), Set.of());
+
+        static FormStructure of(boolean enabled, List<IQuestionRepository.RenderView> questions,
+                                List<IAnswerRepository.RenderView> answers) {
+            Set<Long> questionIds = new HashSet<>();
+            questions.forEach(question -> questionIds.add(question.getId()));
+            Map<Long, Long> questionIdByAnswerId = new HashMap<>();
+            answers.forEach(answer -> questionIdByAnswerId.put(answer.getId(), answer.getQuestionId()));
+            return new FormStructure(true, enabled, questionIds, questionIdByAnswerId,
+                    new HashSet<>(questionIdByAnswerId.values()));
+        }
+    }
+
+    /**
+     * Running totals of one upload.
+     */
+    private final class Upload {
+
+        private final Map<Long, FormStructure> forms = new HashMap<>();
+        private final List<BulkIngestResponse.LineError> errors = new ArrayList<>();
+        private long lines;
+        private long inserted;
+        private long rejected;
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new BulkIngestResponse.LineError(line, message));
+            }
+        }
+
+        private BulkIngestResponse toResponse() {
+            return new BulkIngestResponse(lines, inserted, rejected, errors, rejected > errors.size());
+        }
+    }
+
+    /**
+     * A line that cannot be stored.
+     */
+    private static final class InvalidLineException extends Exception {
+
+        private InvalidLineException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
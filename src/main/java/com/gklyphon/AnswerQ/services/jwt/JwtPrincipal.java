@@ -0,0 +1,66 @@
+package com.gklyphon.AnswerQ.services.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lightweight, immutable principal built directly from the claims of a verified JWT.
+ * Used instead of the {@link com.gklyphon.AnswerQ.models.User} entity when the
+ * application runs with stateless principals, so no database lookup is needed per request.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public final class JwtPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final boolean enabled;
+
+    private JwtPrincipal(Long id, String email, boolean enabled) {
+        this.id = id;
+        this.email = email;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Creates a principal from a verified token.
+     *
+     * @param token Verified token
+     * @return Principal carrying the token's identity claims
+     */
+    public static JwtPrincipal from(VerifiedToken token) {
+        return new JwtPrincipal(token.getUserId(), token.getSubject(), Boolean.TRUE.equals(token.getEnabled()));
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();
+    }
+
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
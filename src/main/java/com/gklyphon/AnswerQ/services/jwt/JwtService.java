@@ -1,9 +1,10 @@
 package com.gklyphon.AnswerQ.services.jwt;
 
 import com.gklyphon.AnswerQ.models.User;
+import com.gklyphon.AnswerQ.services.security.UserSnapshot;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.impl.lang.Function;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -12,9 +13,11 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Service for handling JWT operations.
@@ -25,11 +28,34 @@ import java.util.Map;
 @Service
 public class JwtService {
 
-    @Value("${security.jwt.secret-key}")
-    private String secretKey;
+    private final SecretKey signInKey;
+    private final JwtParser jwtParser;
+    private final long jwtExpiration;
 
-    @Value("${security.jwt.expiration-time}")
-    private long jwtExpiration;
+    /**
+     * Decodes the signing key and builds the token parser once. {@link JwtParser}
+     * instances are immutable and thread-safe, so a single one is shared by all requests.
+     *
+     * @param secretKey Base64 encoded HMAC secret
+     * @param jwtExpiration Token lifetime in milliseconds
+     */
+    public JwtService(@Value("${security.jwt.secret-key}") String secretKey,
+                      @Value("${security.jwt.expiration-time}") long jwtExpiration) {
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parser().verifyWith(signInKey).build();
+        this.jwtExpiration = jwtExpiration;
+    }
+
+    /**
+     * Parses and verifies a JWT token exactly once.
+     *
+     * @param token JWT token to parse
+     * @return Immutable view of the verified claims
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, tampered with or expired
+     */
+    public VerifiedToken verifyToken(String token) {
+        return VerifiedToken.from(extractAllClaims(token));
+    }
 
     /**
      * Extracts the username from a JWT token.
@@ -64,6 +90,7 @@ public class JwtService {
         Map<String, Object> claims = new HashMap<>();
         claims.put("id", user.getId());
         claims.put("enabled", user.getEnabled());
+        claims.put("ver", user.getTokenVersion());
         return generateToken(claims, user);
     }
 
@@ -98,10 +125,11 @@ public class JwtService {
     private String buildToken(Map<String, Object> extraClaims, UserDetails userDetails, long expiration) {
         return Jwts.builder()
                 .claims(extraClaims)
+                .id(UUID.randomUUID().toString())
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), Jwts.SIG.HS256)
+                .signWith(signInKey, Jwts.SIG.HS256)
                 .compact();
     }
 
@@ -113,28 +141,39 @@ public class JwtService {
      * @return true if the token is valid, false otherwise
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return isTokenValid(verifyToken(token), userDetails);
     }
 
     /**
-     * Checks if a JWT token is expired.
+     * Validates whether an already verified token belongs to the given user details,
+     * has not expired and was issued for the user's current token version.
      *
-     * @param token JWT token to check
-     * @return true if the token is expired, false otherwise
+     * @param token Verified token
+     * @param userDetails User details
+     * @return true if the token is valid, false otherwise
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(VerifiedToken token, UserDetails userDetails) {
+        return token.getSubject() != null
+                && token.getSubject().equals(userDetails.getUsername())
+                && !token.isExpired(Instant.now())
+                && token.getTokenVersion() == tokenVersionOf(userDetails, token.getTokenVersion());
     }
 
     /**
-     * Extracts the expiration date from a JWT token.
+     * Resolves the current token version of a loaded principal.
      *
-     * @param token JWT token to parse
-     * @return Expiration date of the token
+     * @param userDetails Loaded principal
+     * @param fallback Version to use when the principal does not track token versions
+     * @return The principal's token version
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private int tokenVersionOf(UserDetails userDetails, int fallback) {
+        if (userDetails instanceof UserSnapshot snapshot) {
+            return snapshot.getTokenVersion();
+        }
+        if (userDetails instanceof User user) {
+            return user.getTokenVersion();
+        }
+        return fallback;
     }
 
     /**
@@ -144,22 +183,9 @@ public class JwtService {
      * @return All claims contained in the token
      */
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSignInKey())
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
 
-    /**
-     * Gets the signing key used for JWT operations.
-     *
-     * @return SecretKey for signing JWTs
-     */
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
-
 }
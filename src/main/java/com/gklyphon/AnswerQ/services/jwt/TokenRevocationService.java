@@ -0,0 +1,158 @@
+package com.gklyphon.AnswerQ.services.jwt;
+
+import com.gklyphon.AnswerQ.models.RevokedToken;
+import com.gklyphon.AnswerQ.repositories.IRevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service that keeps a per-node deny list of revoked access tokens.
+ *
+ * <p>Revoked token IDs ({@code jti}) are held in a {@link BloomFilter} in front of an exact
+ * map of token ID to expiration. Almost every request is answered "not revoked" by the
+ * filter without I/O or locking; only filter hits consult the exact map. Entries are dropped
+ * once the token would have expired anyway, and the filter is rebuilt from the remaining
+ * entries. Revocations are persisted in the {@code revoked_token} table and every node pulls
+ * new rows on a fixed interval, so a revocation reaches the other nodes within one sync
+ * interval.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final IRevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration syncOverlap;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final Object rebuildLock = new Object();
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter;
+    private volatile LocalDateTime lastSync;
+
+    public TokenRevocationService(IRevokedTokenRepository revokedTokenRepository, MeterRegistry meterRegistry,
+                                  @Value("${security.jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+                                  @Value("${security.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${security.jwt.revocation.sync-overlap:1m}") Duration syncOverlap) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncOverlap = syncOverlap;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        Gauge.builder("jwt.revocation.entries", revoked, Map::size)
+                .description("Revoked access tokens held in memory")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("jwt.revocation.bloom.false_positive")
+                .description("Bloom filter hits that were not in the exact deny list")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Checks whether a token has been revoked. Tokens without an ID cannot be revoked
+     * individually and are reported as not revoked.
+     *
+     * @param token Verified token
+     * @return true if the token is revoked, false otherwise
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null || !filter.mightContain(tokenId)) {
+            return false;
+        }
+        if (revoked.containsKey(tokenId)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Revokes a token until its expiration.
+     *
+     * @param token Verified token to revoke
+     */
+    @Transactional
+    public void revoke(VerifiedToken token) {
+        if (token.getTokenId() == null || token.getExpiresAt() == null || revoked.containsKey(token.getTokenId())) {
+            return;
+        }
+        revokedTokenRepository.insertIfAbsent(token.getTokenId(), toLocalDateTime(token.getExpiresAt()), LocalDateTime.now());
+        add(token.getTokenId(), token.getExpiresAt());
+    }
+
+    /**
+     * Pulls revocations made on any node since the last sync and drops expired entries.
+     * Each pull overlaps the previous one so rows committed late are not missed.
+     */
+    @Scheduled(fixedDelayString = "${security.jwt.revocation.sync-interval:10s}")
+    @Transactional(readOnly = true)
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<RevokedToken> revokedTokens = lastSync == null
+                ? revokedTokenRepository.findActive(now)
+                : revokedTokenRepository.findActiveRevokedSince(lastSync.minus(syncOverlap), now);
+        for (RevokedToken revokedToken : revokedTokens) {
+            add(revokedToken.getTokenId(), revokedToken.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+        }
+        lastSync = now;
+        pruneExpired();
+    }
+
+    /**
+     * Deletes revocations of tokens that have expired.
+     */
+    @Scheduled(cron = "${security.jwt.revocation.purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = revokedTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Purged {} expired token revocations", deleted);
+    }
+
+    private void add(String tokenId, Instant expiresAt) {
+        synchronized (rebuildLock) {
+            revoked.put(tokenId, expiresAt);
+            filter.put(tokenId);
+        }
+    }
+
+    /**
+     * Removes expired entries and, if any were removed, rebuilds the filter so it does not
+     * keep answering "maybe" for tokens that no longer matter.
+     */
+    private void pruneExpired() {
+        Instant now = Instant.now();
+        synchronized (rebuildLock) {
+            if (!revoked.values().removeIf(expiresAt -> expiresAt.isBefore(now))) {
+                return;
+            }
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, 2L * revoked.size()), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Instant instant) {
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+}
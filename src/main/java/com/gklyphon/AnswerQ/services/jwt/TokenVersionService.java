@@ -0,0 +1,81 @@
+package com.gklyphon.AnswerQ.services.jwt;
+
+import com.gklyphon.AnswerQ.config.datasource.ReadYourWrites;
+import com.gklyphon.AnswerQ.models.User;
+import com.gklyphon.AnswerQ.repositories.IUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Service that tracks the current token version of each user.
+ *
+ * <p>Every issued token carries the user's token version in its {@code ver} claim. Bumping
+ * the version revokes all tokens issued before it. Versions are cached per node for a short
+ * TTL, so validating a stateless token costs at most one query per user per TTL window, and
+ * a revocation reaches every node within that window. The version is always read from the
+ * primary: a lagging replica would let a revoked token pass, and the stale version would then
+ * stay cached for the whole TTL.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Service
+public class TokenVersionService {
+
+    private static final int UNKNOWN_USER = -1;
+    private static final long MAXIMUM_CACHED_USERS = 100_000;
+
+    private final IUserRepository userRepository;
+    private final Cache<Long, Integer> versions;
+
+    public TokenVersionService(IUserRepository userRepository,
+                               @Value("${security.jwt.token-version-cache-ttl:30s}") Duration cacheTtl) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_CACHED_USERS)
+                .expireAfterWrite(cacheTtl)
+                .build();
+    }
+
+    /**
+     * Checks whether a token was issued for the user's current token version.
+     *
+     * @param token Verified token
+     * @return true if the token has not been revoked by a version bump, false otherwise
+     */
+    public boolean isCurrent(VerifiedToken token) {
+        if (token.getUserId() == null) {
+            return false;
+        }
+        int currentVersion = versions.get(token.getUserId(), id -> ReadYourWrites.onPrimary(
+                () -> userRepository.findTokenVersionById(id).orElse(UNKNOWN_USER)));
+        return currentVersion != UNKNOWN_USER && currentVersion == token.getTokenVersion();
+    }
+
+    /**
+     * Revokes every token issued to the user so far by bumping their token version.
+     * The caller is responsible for saving the user; when called inside a transaction the
+     * cached version is dropped again after commit so no stale value survives the write.
+     *
+     * @param user User whose tokens are revoked
+     */
+    public void revokeIssuedTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        Long userId = user.getId();
+        versions.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    versions.invalidate(userId);
+                }
+            });
+        }
+    }
+}
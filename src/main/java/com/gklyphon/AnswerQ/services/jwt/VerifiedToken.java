@@ -0,0 +1,100 @@
+package com.gklyphon.AnswerQ.services.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Immutable view of a JWT whose signature and expiration have already been verified.
+ * Created once per request by {@link JwtService#verifyToken(String)} so callers never
+ * need to parse the same token again.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public final class VerifiedToken {
+
+    private final String tokenId;
+    private final String subject;
+    private final Long userId;
+    private final Boolean enabled;
+    private final int tokenVersion;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    private VerifiedToken(String tokenId, String subject, Long userId, Boolean enabled, int tokenVersion, Instant issuedAt, Instant expiresAt) {
+        this.tokenId = tokenId;
+        this.subject = subject;
+        this.userId = userId;
+        this.enabled = enabled;
+        this.tokenVersion = tokenVersion;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Copies the claims used by the application out of a verified JWT payload.
+     *
+     * @param claims Claims of a token that passed signature verification
+     * @return Immutable token view
+     */
+    static VerifiedToken from(Claims claims) {
+        Integer tokenVersion = claims.get("ver", Integer.class);
+        return new VerifiedToken(
+                claims.getId(),
+                claims.getSubject(),
+                claims.get("id", Long.class),
+                claims.get("enabled", Boolean.class),
+                tokenVersion != null ? tokenVersion : 0,
+                toInstant(claims.getIssuedAt()),
+                toInstant(claims.getExpiration()));
+    }
+
+    private static Instant toInstant(Date date) {
+        return date != null ? date.toInstant() : null;
+    }
+
+    /**
+     * Gets the token ID ({@code jti}). Tokens issued before IDs were added have none.
+     *
+     * @return The token ID, or null
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Boolean getEnabled() {
+        return enabled;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Checks whether the token is past its expiration time.
+     *
+     * @param now Reference instant
+     * @return true if the token is expired, false otherwise
+     */
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
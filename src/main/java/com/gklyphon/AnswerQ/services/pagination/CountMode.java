@@ -0,0 +1,38 @@
+package com.gklyphon.AnswerQ.services.pagination;
+
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidPageRequestException;
+
+import java.util.Locale;
+
+/**
+ * How the total number of elements of a paginated listing is obtained.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public enum CountMode {
+
+    /** Runs an exact {@code COUNT(*)} next to the page query. */
+    EXACT,
+
+    /** Runs no count; the page only knows whether another page follows. */
+    NONE,
+
+    /** Counts exactly up to a cap and uses the Postgres planner estimate beyond it. */
+    ESTIMATED;
+
+    /**
+     * Parses a count mode from a request parameter, ignoring case.
+     *
+     * @param value The parameter value.
+     * @return The count mode.
+     * @throws InvalidPageRequestException If the value is not a known mode.
+     */
+    public static CountMode parse(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPageRequestException("Unknown count mode: " + value);
+        }
+    }
+}
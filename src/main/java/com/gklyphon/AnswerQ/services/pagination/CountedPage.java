@@ -0,0 +1,72 @@
+package com.gklyphon.AnswerQ.services.pagination;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * Page that records how its total was obtained. It is a regular {@link Page}, so
+ * {@code PagedResourcesAssembler} renders it as usual; with {@link CountMode#NONE} the total
+ * is only large enough to produce a {@code next} link when another page follows.
+ *
+ * @param <T> The type of the elements.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+    public static final String COUNT_MODE_HEADER = "X-Count-Mode";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private final CountMode countMode;
+    private final String totalLabel;
+
+    CountedPage(List<T> content, Pageable pageable, long total, CountMode countMode, String totalLabel) {
+        super(content, pageable, total);
+        this.countMode = countMode;
+        this.totalLabel = totalLabel;
+    }
+
+    @Override
+    public <U> CountedPage<U> map(Function<? super T, ? extends U> converter) {
+        return new CountedPage<>(getContent().stream().<U>map(converter).toList(), getPageable(),
+                getTotalElements(), countMode, totalLabel);
+    }
+
+    /**
+     * Builds the headers that describe the total of a page, such as
+     * {@code X-Total-Count: 10000+} for a capped count.
+     *
+     * @param page The page.
+     * @return The headers; empty for pages that are not a {@code CountedPage}.
+     */
+    public static HttpHeaders headers(Page<?> page) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page instanceof CountedPage<?> countedPage) {
+            headers.set(COUNT_MODE_HEADER, countedPage.countMode.name().toLowerCase(Locale.ROOT));
+            if (countedPage.totalLabel != null) {
+                headers.set(TOTAL_COUNT_HEADER, countedPage.totalLabel);
+            }
+        }
+        return headers;
+    }
+
+    public CountMode getCountMode() {
+        return countMode;
+    }
+
+    /**
+     * Gets the total as shown to clients.
+     *
+     * @return The exact total, a capped total such as {@code 10000+}, or null without a count
+     */
+    public String getTotalLabel() {
+        return totalLabel;
+    }
+}
@@ -0,0 +1,113 @@
+package com.gklyphon.AnswerQ.services.pagination;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Builds pages whose total is obtained according to a {@link CountMode}.
+ *
+ * <p>{@link CountMode#EXACT} runs the repository page query with its {@code COUNT(*)}. The
+ * other modes run the slice query, which reads one extra row instead of counting.
+ * {@link CountMode#ESTIMATED} then counts matching rows up to the cap; when the cap is
+ * reached the total comes from the planner's row estimate ({@code EXPLAIN}), which reads no
+ * rows at all.</p>
+ *
+ * <p>Must be called inside the caller's transaction so the count runs on the same
+ * connection.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class PageCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(PageCounter.class);
+    private static final Pattern PLAN_ROWS = Pattern.compile("rows=(\\d+)");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long countCap;
+
+    public PageCounter(JdbcTemplate jdbcTemplate,
+                       @Value("${pagination.estimate.count-cap:10000}") long countCap) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.countCap = countCap;
+    }
+
+    /**
+     * Runs a listing in the given count mode.
+     *
+     * @param pageable   The requested page.
+     * @param countMode  How the total is obtained.
+     * @param pageQuery  Repository query that returns the page with an exact count.
+     * @param sliceQuery Repository query that returns the same page without a count.
+     * @param filter     Table and filter of the listing, for estimated counts.
+     * @return The page, with its count mode recorded.
+     */
+    public <T> CountedPage<T> page(Pageable pageable, CountMode countMode, Supplier<Page<T>> pageQuery,
+                                   Supplier<Slice<T>> sliceQuery, RowFilter filter) {
+        if (countMode == CountMode.EXACT) {
+            Page<T> page = pageQuery.get();
+            return new CountedPage<>(page.getContent(), pageable, page.getTotalElements(), countMode,
+                    String.valueOf(page.getTotalElements()));
+        }
+
+        Slice<T> slice = sliceQuery.get();
+        List<T> content = slice.getContent();
+        long lowerBound = pageable.getOffset() + content.size() + (slice.hasNext() ? 1 : 0);
+        if (countMode == CountMode.NONE) {
+            return new CountedPage<>(content, pageable, lowerBound, countMode, null);
+        }
+        if (!slice.hasNext()) {
+            // The last page already tells the exact total
+            return new CountedPage<>(content, pageable, lowerBound, countMode, String.valueOf(lowerBound));
+        }
+
+        long capped = cappedCount(filter);
+        if (capped <= countCap) {
+            return new CountedPage<>(content, pageable, Math.max(capped, lowerBound), countMode, String.valueOf(capped));
+        }
+        long estimate = Math.max(Math.max(plannerEstimate(filter), capped), lowerBound);
+        return new CountedPage<>(content, pageable, estimate, countMode, countCap + "+");
+    }
+
+    /**
+     * Counts matching rows, stopping one row past the cap.
+     */
+    private long cappedCount(RowFilter filter) {
+        String sql = "select count(*) from (select 1 from " + filter.table() + filter.whereClause()
+                + " limit " + (countCap + 1) + ") capped";
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, filter.args());
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Reads the planner's row estimate for the filter. Returns 0 if it cannot be read.
+     */
+    private long plannerEstimate(RowFilter filter) {
+        String sql = "explain select 1 from " + filter.table() + filter.whereClause();
+        try {
+            List<String> plan = jdbcTemplate.queryForList(sql, String.class, filter.args());
+            if (!plan.isEmpty()) {
+                Matcher matcher = PLAN_ROWS.matcher(plan.get(0));
+                if (matcher.find()) {
+                    return Long.parseLong(matcher.group(1));
+                }
+            }
+        } catch (DataAccessException ex) {
+            log.debug("Could not read the planner estimate for {}", filter.table(), ex);
+        }
+        return 0L;
+    }
+}
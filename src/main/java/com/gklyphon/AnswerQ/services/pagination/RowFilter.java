@@ -0,0 +1,47 @@
+package com.gklyphon.AnswerQ.services.pagination;
+
+import java.util.regex.Pattern;
+
+/**
+ * Table and optional equality filter of a listing, used to count or estimate its rows with
+ * native SQL. Table and column names are validated identifiers; only the value is bound.
+ *
+ * @param table  The table name.
+ * @param column The filtered column, or null for the whole table.
+ * @param value  The value the column must equal.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public record RowFilter(String table, String column, Object value) {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    public RowFilter {
+        if (!IDENTIFIER.matcher(table).matches() || (column != null && !IDENTIFIER.matcher(column).matches())) {
+            throw new IllegalArgumentException("Invalid identifier in row filter");
+        }
+    }
+
+    /**
+     * Matches every row of a table.
+     */
+    public static RowFilter all(String table) {
+        return new RowFilter(table, null, null);
+    }
+
+    /**
+     * Matches the rows of a table whose column equals the value.
+     */
+    public static RowFilter eq(String table, String column, Object value) {
+        return new RowFilter(table, column, value);
+    }
+
+    String whereClause() {
+        return column != null ? " where " + column + " = ?" : "";
+    }
+
+    Object[] args() {
+        return column != null ? new Object[]{value} : new Object[0];
+    }
+}
@@ -0,0 +1,126 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import com.gklyphon.AnswerQ.exceptions.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory token-bucket rate limiter for the public {@code /auth} endpoints.
+ *
+ * <p>Requests are limited per client IP (checked by {@code AuthRateLimitFilter} before any
+ * work is done) and per email (checked by {@link AuthenticationService} before hashing a
+ * password or sending mail). Buckets are lock-free and kept in size-bounded Caffeine maps that
+ * drop keys idle for longer than the configured timeout, so a burst of random IPs or emails
+ * cannot grow memory without bound. Rejections are counted under
+ * {@code auth.rate_limit.rejected}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class AuthRateLimiter {
+
+    private static final String IP_SCOPE = "ip";
+    private static final String EMAIL_SCOPE = "email";
+
+    private final boolean enabled;
+    private final long ipCapacity;
+    private final long ipRefillNanos;
+    private final long emailCapacity;
+    private final long emailRefillNanos;
+    private final Cache<String, TokenBucket> ipBuckets;
+    private final Cache<String, TokenBucket> emailBuckets;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    public AuthRateLimiter(MeterRegistry meterRegistry,
+                           @Value("${security.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${security.rate-limit.ip.capacity:20}") long ipCapacity,
+                           @Value("${security.rate-limit.ip.refill-period:1m}") Duration ipRefillPeriod,
+                           @Value("${security.rate-limit.email.capacity:5}") long emailCapacity,
+                           @Value("${security.rate-limit.email.refill-period:5m}") Duration emailRefillPeriod,
+                           @Value("${security.rate-limit.idle-timeout:15m}") Duration idleTimeout,
+                           @Value("${security.rate-limit.maximum-keys:100000}") long maximumKeys) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillNanos = ipRefillPeriod.toNanos();
+        this.emailCapacity = emailCapacity;
+        this.emailRefillNanos = emailRefillPeriod.toNanos();
+        this.ipBuckets = buildBuckets(idleTimeout, maximumKeys);
+        this.emailBuckets = buildBuckets(idleTimeout, maximumKeys);
+
+        Gauge.builder("auth.rate_limit.keys", ipBuckets, Cache::estimatedSize)
+                .tag("scope", IP_SCOPE)
+                .register(meterRegistry);
+        Gauge.builder("auth.rate_limit.keys", emailBuckets, Cache::estimatedSize)
+                .tag("scope", EMAIL_SCOPE)
+                .register(meterRegistry);
+    }
+
+    private static Cache<String, TokenBucket> buildBuckets(Duration idleTimeout, long maximumKeys) {
+        return Caffeine.newBuilder()
+                .expireAfterAccess(idleTimeout)
+                .maximumSize(maximumKeys)
+                .build();
+    }
+
+    /**
+     * Takes a token from the bucket of a client IP for an endpoint.
+     *
+     * @param endpoint The endpoint being called, e.g. {@code login}
+     * @param clientIp The client address
+     * @throws TooManyRequestsException if the bucket is empty
+     */
+    public void checkIp(String endpoint, String clientIp) {
+        check(IP_SCOPE, endpoint, clientIp, ipBuckets, ipCapacity, ipRefillNanos);
+    }
+
+    /**
+     * Takes a token from the bucket of an email for an endpoint.
+     *
+     * @param endpoint The endpoint being called, e.g. {@code login}
+     * @param email    The email the request targets
+     * @throws TooManyRequestsException if the bucket is empty
+     */
+    public void checkEmail(String endpoint, String email) {
+        if (email == null) {
+            return;
+        }
+        check(EMAIL_SCOPE, endpoint, email.trim().toLowerCase(Locale.ROOT), emailBuckets, emailCapacity, emailRefillNanos);
+    }
+
+    private void check(String scope, String endpoint, String key, Cache<String, TokenBucket> buckets,
+                       long capacity, long refillNanos) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(endpoint + ':' + key, k -> new TokenBucket(capacity, refillNanos, now));
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            rejectedCounter(scope, endpoint).increment();
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+            throw new TooManyRequestsException("Too many requests, try again later", retryAfterSeconds);
+        }
+    }
+
+    private Counter rejectedCounter(String scope, String endpoint) {
+        return rejectedCounters.computeIfAbsent(scope + ':' + endpoint, k -> Counter.builder("auth.rate_limit.rejected")
+                .description("Requests to /auth endpoints rejected by the rate limiter")
+                .tag("scope", scope)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry));
+    }
+}
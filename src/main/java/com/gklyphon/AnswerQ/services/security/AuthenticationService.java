@@ -2,12 +2,18 @@ package com.gklyphon.AnswerQ.services.security;
 
 import com.gklyphon.AnswerQ.dtos.*;
 import com.gklyphon.AnswerQ.exceptions.exception.InvalidCredentialsException;
+import com.gklyphon.AnswerQ.exceptions.exception.ServiceOverloadedException;
+import com.gklyphon.AnswerQ.exceptions.exception.TooManyRequestsException;
 import com.gklyphon.AnswerQ.exceptions.exception.UserAlreadyExistsException;
 import com.gklyphon.AnswerQ.mapper.IMapper;
 import com.gklyphon.AnswerQ.models.User;
 import com.gklyphon.AnswerQ.repositories.IUserRepository;
-import com.gklyphon.AnswerQ.services.email.EmailService;
-import jakarta.mail.MessagingException;
+import com.gklyphon.AnswerQ.services.email.EmailOutboxService;
+import com.gklyphon.AnswerQ.services.email.EmailTemplateRenderer;
+import com.gklyphon.AnswerQ.services.jwt.JwtService;
+import com.gklyphon.AnswerQ.services.jwt.TokenRevocationService;
+import com.gklyphon.AnswerQ.services.jwt.VerifiedToken;
+import io.jsonwebtoken.JwtException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,7 +24,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 
@@ -38,15 +44,29 @@ public class AuthenticationService {
     private final IUserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationManager authenticationManager;
-    private final EmailService emailService;
+    private final EmailOutboxService emailOutboxService;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final SignInAlertCoalescer signInAlertCoalescer;
     private final IMapper mapper;
+    private final UserDetailsCache userDetailsCache;
+    private final RefreshTokenService refreshTokenService;
+    private final AuthRateLimiter authRateLimiter;
+    private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
 
-    public AuthenticationService(IUserRepository userRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, EmailService emailService, IMapper mapper) {
+    public AuthenticationService(IUserRepository userRepository, PasswordEncoder passwordEncoder, AuthenticationManager authenticationManager, EmailOutboxService emailOutboxService, EmailTemplateRenderer emailTemplateRenderer, SignInAlertCoalescer signInAlertCoalescer, IMapper mapper, UserDetailsCache userDetailsCache, RefreshTokenService refreshTokenService, AuthRateLimiter authRateLimiter, JwtService jwtService, TokenRevocationService tokenRevocationService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
-        this.emailService = emailService;
+        this.emailOutboxService = emailOutboxService;
+        this.emailTemplateRenderer = emailTemplateRenderer;
+        this.signInAlertCoalescer = signInAlertCoalescer;
         this.mapper = mapper;
+        this.userDetailsCache = userDetailsCache;
+        this.refreshTokenService = refreshTokenService;
+        this.authRateLimiter = authRateLimiter;
+        this.jwtService = jwtService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
@@ -84,9 +104,11 @@ public class AuthenticationService {
      * @param loginUserDto DTO containing user login credentials
      * @return The authenticated user
      * @throws RuntimeException if user is not found or account is not verified
+     * @throws TooManyRequestsException if too many attempts were made for the email
      */
     @Transactional
     public User authenticate(LoginUserDto loginUserDto) {
+        authRateLimiter.checkEmail("login", loginUserDto.getEmail());
         User user = userRepository.findByEmail(loginUserDto.getEmail())
                 .orElseThrow(() -> new InvalidCredentialsException("Invalid credentials"));
 
@@ -97,18 +119,74 @@ public class AuthenticationService {
             throw new InvalidCredentialsException("Invalid credentials");
         }
 
-        sendSignInAlertEmail(user);
+        rehashIfNeeded(user, loginUserDto.getPassword());
+        signInAlertCoalescer.signedIn(user);
         return user;
     }
 
+    /**
+     * Exchanges a refresh token for a new one without re-running password verification
+     * or sending a sign-in alert.
+     *
+     * @param refreshTokenDto DTO containing the refresh token
+     * @return The rotated refresh token and its user
+     * @throws InvalidCredentialsException if the refresh token is invalid, expired or reused
+     */
+    public RefreshTokenService.RotatedRefreshToken refresh(RefreshTokenDto refreshTokenDto) {
+        return refreshTokenService.rotate(refreshTokenDto.getRefreshToken());
+    }
+
+    /**
+     * Logs a session out by revoking its access token until it expires and, when given,
+     * the family of its refresh token.
+     *
+     * @param jwt          The access token to revoke
+     * @param refreshToken The refresh token of the session, may be null
+     * @throws InvalidCredentialsException if the access token is invalid or expired
+     */
+    @Transactional
+    public void logout(String jwt, String refreshToken) {
+        VerifiedToken token;
+        try {
+            token = jwtService.verifyToken(jwt);
+        } catch (JwtException ex) {
+            throw new InvalidCredentialsException("Invalid token");
+        }
+        tokenRevocationService.revoke(token);
+        refreshTokenService.revokeFamily(refreshToken);
+    }
+
+    /**
+     * Re-encodes the stored password with the current work factor when its encoding is weaker
+     * than the target, so the cost can rise per hardware generation without a flag day.
+     * The upgrade is skipped, not failed, when the hashing pool is saturated.
+     *
+     * @param user        The authenticated user
+     * @param rawPassword The password the user just authenticated with
+     */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+            userDetailsCache.evict(user.getEmail());
+        } catch (ServiceOverloadedException ex) {
+            log.warn("Skipping password rehash for user {}: {}", user.getId(), ex.getMessage());
+        }
+    }
+
     /**
      * Verifies a user's account using the provided verification code.
      *
      * @param verifyUserDto DTO containing verification details
      * @throws RuntimeException if verification code is invalid, expired, or user not found
+     * @throws TooManyRequestsException if too many attempts were made for the email
      */
     @Transactional
     public void verifyUser(VerifyUserDto verifyUserDto) {
+        authRateLimiter.checkEmail("verify", verifyUserDto.getEmail());
         Optional<User> optionalUser = userRepository.findByEmail(verifyUserDto.getEmail());
 
         if (optionalUser.isPresent()) {
@@ -123,6 +201,7 @@ public class AuthenticationService {
                 user.setVerificationCodeExpiresAt(null);
 
                 userRepository.save(user);
+                userDetailsCache.evict(user.getEmail());
             } else {
                 throw new RuntimeException("Invalid verification code");
             }
@@ -137,9 +216,11 @@ public class AuthenticationService {
      *
      * @param email The email address of the user
      * @throws RuntimeException if user is not found or account is already verified
+     * @throws TooManyRequestsException if too many codes were requested for the email
      */
     @Transactional
     public void resendVerificationCode(String email) {
+        authRateLimiter.checkEmail("resend", email);
         Optional<User> optionalUser = userRepository.findByEmail(email);
 
         if (optionalUser.isPresent()) {
@@ -158,41 +239,16 @@ public class AuthenticationService {
     }
 
     /**
-     * Sends a verification email containing a 6-digit code.
+     * Queues a verification email containing a 6-digit code.
      *
      * @param user User to send the email to.
      */
     public void sendVerificationEmail(User user) {
         String subject = "Account Verification";
-        String verificationCode = user.getVerificationCode();
-        String htmlMessage = "<html>" +
-                "<body style=\"font-family: Arial, sans-serif; margin: 0; padding: 0; background-color: #f7f9fc;\">" +
-                "<div style=\"max-width: 600px; margin: 20px auto; background-color: #ffffff; border-radius: 8px; overflow: hidden; box-shadow: 0 2px 10px rgba(0, 0, 0, 0.05);\">" +
-                "<div style=\"background-color: #2c3e50; padding: 20px; text-align: center;\">" +
-                "<h1 style=\"color: #ffffff; margin: 0; font-size: 24px;\">Account Verification</h1>" +
-                "</div>" +
-                "<div style=\"padding: 25px;\">" +
-                "<h2 style=\"color: #2c3e50; margin-top: 0;\">Welcome to AnswerQ!</h2>" +
-                "<p style=\"font-size: 16px; color: #4a5568; line-height: 1.5;\">" +
-                "Thank you for registering. To complete your account setup, please enter the following verification code:" +
-                "</p>" +
-                "<div style=\"background-color: #f8f9fa; border: 1px solid #e2e8f0; border-radius: 6px; padding: 20px; margin: 25px 0; text-align: center;\">" +
-                "<p style=\"margin: 0 0 10px 0; font-size: 14px; color: #718096;\">YOUR VERIFICATION CODE</p>" +
-                "<div style=\"font-size: 28px; font-weight: bold; color: #3182ce; letter-spacing: 2px;\">" + verificationCode + "</div>" +
-                "</div>" +
-                "<p style=\"font-size: 14px; color: #718096;\">" +
-                "This code will expire. If you didn't request this, please ignore this email." +
-                "</p>" +
-                "</div>" +
-                "</div>" +
-                "</body>" +
-                "</html>";
+        String htmlMessage = emailTemplateRenderer.render(EmailTemplateRenderer.VERIFICATION,
+                Map.of("verificationCode", user.getVerificationCode()));
 
-        try {
-            emailService.sendEmail(user.getEmail(), subject, htmlMessage);
-        } catch (MessagingException ex) {
-            log.error(ex.getMessage());
-        }
+        emailOutboxService.enqueue(user.getEmail(), subject, htmlMessage);
     }
 
     /**
@@ -207,40 +263,4 @@ public class AuthenticationService {
         return String.valueOf(code);
     }
 
-    /**
-     * Sends a security alert email notifying the user of a new login.
-     *
-     * @param user The user who logged in.
-     */
-    private void sendSignInAlertEmail(User user) {
-        String subject = "New Login Detected on Your Account";
-        String htmlMessage = "<html>" +
-                "<body style=\"font-family: Arial, sans-serif; line-height: 1.6; color: #333;\">" +
-                "<div style=\"max-width: 600px; margin: 0 auto; background-color: #f8f9fa; padding: 25px; border-radius: 8px;\">" +
-                "<div style=\"text-align: center; margin-bottom: 20px;\">" +
-                "<h2 style=\"color: #d32f2f; margin-bottom: 5px;\">Security Alert</h2>" +
-                "<div style=\"height: 2px; background: linear-gradient(to right, #f8f9fa, #d32f2f, #f8f9fa); margin: 10px 0;\"></div>" +
-                "</div>" +
-                "<p>Hello <strong>" + user.getFirstname() + "</strong>,</p>" +
-                "<p>We detected a new sign-in to your account:</p>" +
-                "<div style=\"background-color: #fff; padding: 15px; border-left: 4px solid #d32f2f; margin: 20px 0; box-shadow: 0 2px 4px rgba(0,0,0,0.05);\">" +
-                "<p style=\"margin: 8px 0;\"><strong>Time:</strong> " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy hh:mm a")) + "</p>" +
-                "</div>" +
-                "<p>If this wasn't you:</p>" +
-                "<ul style=\"padding-left: 20px; margin: 15px 0;\">" +
-                "<li>Change your password immediately</li>" +
-                "</ul>" +
-                "<div style=\"font-size: 13px; color: #777; border-top: 1px solid #eee; padding-top: 15px; margin-top: 20px;\">" +
-                "<p>Ignore this email if you recognize this activity. For security reasons, we recommend never sharing your credentials.</p>" +
-                "</div>" +
-                "</div>" +
-                "</body>" +
-                "</html>";
-        try {
-            emailService.sendEmail(user.getEmail(), subject, htmlMessage);
-        } catch (MessagingException ex) {
-            log.error(ex.getMessage());
-        }
-    }
-
 }
@@ -0,0 +1,157 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import com.gklyphon.AnswerQ.exceptions.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated, size-limited pool for CPU-heavy password hashing.
+ *
+ * <p>Hashing runs on a fixed number of worker threads with a bounded queue. When the queue is
+ * full, or a queued task does not start within the configured wait, the caller gets a
+ * {@link ServiceOverloadedException} (503 + Retry-After) instead of tying up a request thread,
+ * so a login storm cannot starve the rest of the API. The wait only covers time in the queue:
+ * a hash that has started always runs to completion, so its work is never thrown away.</p>
+ *
+ * <p>Exported metrics: {@code password.hash.duration} and {@code password.hash.queue.wait}
+ * (histograms), {@code password.hash.queue.depth}, {@code password.hash.active} and
+ * {@code password.hash.rejected}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final long retryAfterSeconds;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> hashTimers = new ConcurrentHashMap<>();
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${security.password-hashing.pool-size:0}") int poolSize,
+                                   @Value("${security.password-hashing.queue-capacity:32}") int queueCapacity,
+                                   @Value("${security.password-hashing.max-wait:5s}") Duration maxWait,
+                                   @Value("${security.password-hashing.retry-after:5s}") Duration retryAfter) {
+        int threads = poolSize > 0 ? poolSize : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.maxWait = maxWait;
+        this.retryAfterSeconds = Math.max(1, retryAfter.toSeconds());
+        this.meterRegistry = meterRegistry;
+        this.queueWaitTimer = Timer.builder("password.hash.queue.wait")
+                .description("Time a hashing task waits for a free worker")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hash.rejected")
+                .description("Hashing tasks shed because the pool was saturated")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue.depth", executor, e -> e.getQueue().size())
+                .description("Hashing tasks waiting for a worker")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Hashing tasks currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs a hashing operation on the pool and waits for its result.
+     *
+     * @param operation Name of the operation, used as the metric tag
+     * @param task      The hashing work
+     * @param <T>       Type of the result
+     * @return The result of the task
+     * @throws ServiceOverloadedException if the pool is saturated or the task could not start in time
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        Timer hashTimer = hashTimers.computeIfAbsent(operation, this::hashTimer);
+        long enqueuedAt = System.nanoTime();
+        long maxWaitNanos = maxWait.toNanos();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long waited = System.nanoTime() - enqueuedAt;
+                queueWaitTimer.record(waited, TimeUnit.NANOSECONDS);
+                if (waited > maxWaitNanos) {
+                    throw new StartedTooLateException();
+                }
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException ex) {
+            throw overloaded();
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            // Drops the task if it is still queued; a running hash is left to finish
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof StartedTooLateException) {
+                throw overloaded();
+            }
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", ex.getCause());
+        }
+    }
+
+    private Timer hashTimer(String operation) {
+        return Timer.builder("password.hash.duration")
+                .description("Time spent computing a password hash")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private ServiceOverloadedException overloaded() {
+        rejectedCounter.increment();
+        return new ServiceOverloadedException("Authentication is temporarily overloaded, please retry later", retryAfterSeconds);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Thrown by a task that left the queue after the maximum wait, before hashing anything.
+     */
+    private static final class StartedTooLateException extends RuntimeException {
+
+        StartedTooLateException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Creates named daemon threads for the hashing pool.
+     */
+    private static final class HashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hash-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Measures password hashing on the current machine at startup and picks the work factor
+ * that keeps one hash within the configured target latency.
+ *
+ * <p>For BCrypt the cost is measured at a cheap probe strength and extrapolated (each step
+ * doubles the work); for Argon2 the iteration count is scaled linearly from a single
+ * iteration at fixed memory and parallelism. The chosen value is then measured once more and
+ * reported through the {@code passwordhashing} actuator endpoint, timed with a single hash. With calibration disabled
+ * the configured fixed values are used. BCrypt never goes below
+ * {@code min-bcrypt-strength}, calibrated or not, so a slow or busy host at startup cannot
+ * lower the cost of new hashes; when the floor alone is estimated above the target, the floor
+ * wins and a warning says so.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class PasswordWorkFactorCalibrator {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2 = "argon2";
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordWorkFactorCalibrator.class);
+    private static final String SAMPLE_PASSWORD = "calibration-Sample-Passw0rd";
+    private static final int SAMPLES = 3;
+    private static final int BCRYPT_PROBE_STRENGTH = 10;
+    private static final int MAX_ARGON2_ITERATIONS = 10;
+
+    private final String algorithm;
+    private final Duration targetLatency;
+    private final boolean calibrated;
+    private final int bcryptStrength;
+    private final int argon2Iterations;
+    private final double measuredMillis;
+    private final Instant calibratedAt;
+
+    public PasswordWorkFactorCalibrator(
+            @Value("${security.password-hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${security.password-hashing.target-latency:1s}") Duration targetLatency,
+            @Value("${security.password-hashing.calibrate:true}") boolean calibrate,
+            @Value("${security.password-hashing.bcrypt-strength:14}") int bcryptStrength,
+            @Value("${security.password-hashing.min-bcrypt-strength:14}") int minBcryptStrength,
+            @Value("${security.password-hashing.max-bcrypt-strength:16}") int maxBcryptStrength,
+            @Value("${security.password-hashing.argon2-iterations:4}") int argon2Iterations) {
+        if (!BCRYPT.equals(algorithm) && !ARGON2.equals(algorithm)) {
+            throw new IllegalArgumentException("Unsupported password hashing algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.targetLatency = targetLatency;
+        this.calibrated = calibrate;
+        double targetMillis = targetLatency.toNanos() / 1_000_000.0;
+
+        if (calibrate && BCRYPT.equals(algorithm)) {
+            bcryptStrength = calibrateBcrypt(targetMillis, minBcryptStrength, maxBcryptStrength);
+        }
+        bcryptStrength = Math.max(bcryptStrength, minBcryptStrength);
+        if (calibrate && ARGON2.equals(algorithm)) {
+            argon2Iterations = calibrateArgon2(targetMillis);
+        }
+        this.bcryptStrength = bcryptStrength;
+        this.argon2Iterations = argon2Iterations;
+        this.measuredMillis = calibrate ? measureOnceMillis(createTargetEncoder()) : Double.NaN;
+        this.calibratedAt = Instant.now();
+
+        log.info("Password hashing uses {} with bcrypt strength {} / argon2 iterations {} (target {} ms, measured {} ms)",
+                algorithm, this.bcryptStrength, this.argon2Iterations, targetMillis, measuredMillis);
+    }
+
+    /**
+     * Picks the highest BCrypt strength whose extrapolated cost stays within the target, but
+     * never less than the minimum strength.
+     */
+    private int calibrateBcrypt(double targetMillis, int minStrength, int maxStrength) {
+        int probeStrength = Math.min(BCRYPT_PROBE_STRENGTH, minStrength);
+        double probeMillis = measureMillis(new TargetCostBCryptPasswordEncoder(probeStrength));
+        double floorMillis = probeMillis * Math.pow(2, minStrength - probeStrength);
+        if (floorMillis > targetMillis) {
+            log.warn("BCrypt strength {} is estimated at {} ms, above the {} ms target; the minimum strength overrides the target",
+                    minStrength, Math.round(floorMillis), targetMillis);
+            return minStrength;
+        }
+        int strength = minStrength;
+        while (strength < maxStrength && probeMillis * Math.pow(2, strength + 1 - probeStrength) <= targetMillis) {
+            strength++;
+        }
+        return strength;
+    }
+
+    /**
+     * Picks the Argon2 iteration count that fits the target, at fixed memory and parallelism.
+     */
+    private int calibrateArgon2(double targetMillis) {
+        double singleIterationMillis = measureMillis(new TargetCostArgon2PasswordEncoder(1));
+        int iterations = (int) Math.floor(targetMillis / Math.max(singleIterationMillis, 1.0));
+        return Math.max(1, Math.min(MAX_ARGON2_ITERATIONS, iterations));
+    }
+
+    /**
+     * Returns the time of a single encoding, for reporting the chosen work factor.
+     */
+    private static double measureOnceMillis(PasswordEncoder encoder) {
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000.0;
+    }
+
+    /**
+     * Returns the fastest of a few encodings after one warm-up run.
+     */
+    private double measureMillis(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best / 1_000_000.0;
+    }
+
+    /**
+     * Creates the encoder used for new hashes with the chosen work factor.
+     *
+     * @return Encoder for the configured algorithm
+     */
+    public PasswordEncoder createTargetEncoder() {
+        return BCRYPT.equals(algorithm) ? createBcryptEncoder() : createArgon2Encoder();
+    }
+
+    public TargetCostBCryptPasswordEncoder createBcryptEncoder() {
+        return new TargetCostBCryptPasswordEncoder(bcryptStrength);
+    }
+
+    public TargetCostArgon2PasswordEncoder createArgon2Encoder() {
+        return new TargetCostArgon2PasswordEncoder(argon2Iterations);
+    }
+
+    public String getAlgorithm() {
+        return algorithm;
+    }
+
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+    public boolean isCalibrated() {
+        return calibrated;
+    }
+
+    public int getBcryptStrength() {
+        return bcryptStrength;
+    }
+
+    public int getArgon2Iterations() {
+        return argon2Iterations;
+    }
+
+    public double getMeasuredMillis() {
+        return measuredMillis;
+    }
+
+    public Instant getCalibratedAt() {
+        return calibratedAt;
+    }
+}
@@ -0,0 +1,176 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidCredentialsException;
+import com.gklyphon.AnswerQ.models.RefreshToken;
+import com.gklyphon.AnswerQ.models.User;
+import com.gklyphon.AnswerQ.repositories.IRefreshTokenRepository;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * Service that issues and rotates refresh tokens.
+ *
+ * <p>Refresh tokens are random 256-bit values; only their SHA-256 hash is stored, so checking
+ * one is a single indexed lookup instead of a password hash. Every rotation marks the
+ * presented token as used and issues a new one in the same family. Presenting a token that was
+ * already used or revoked is treated as theft and revokes the whole family.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final int TOKEN_BYTES = 32;
+
+    private final IRefreshTokenRepository refreshTokenRepository;
+    private final long refreshExpiration;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(IRefreshTokenRepository refreshTokenRepository,
+                               @Value("${security.jwt.refresh-expiration-time:2592000000}") long refreshExpiration) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshExpiration = refreshExpiration;
+    }
+
+    /**
+     * Issues a refresh token that starts a new family.
+     *
+     * @param user The user to issue the token to
+     * @return The raw refresh token, returned to the client only once
+     */
+    @Transactional
+    public String issue(User user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new one in the same family.
+     *
+     * @param rawToken The refresh token presented by the client
+     * @return The rotated token and the user it belongs to
+     * @throws InvalidCredentialsException if the token is unknown, expired, revoked or reused
+     */
+    @Transactional(noRollbackFor = InvalidCredentialsException.class)
+    public RotatedRefreshToken rotate(String rawToken) {
+        if (!StringUtils.hasText(rawToken)) {
+            throw new InvalidCredentialsException("Invalid refresh token");
+        }
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid refresh token"));
+
+        if (refreshToken.isRevoked() || refreshToken.getUsedAt() != null) {
+            log.warn("Refresh token reuse detected for family {}, revoking it", refreshToken.getFamilyId());
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new InvalidCredentialsException("Invalid refresh token");
+        }
+        if (refreshToken.getExpiresAt().isBefore(LocalDateTime.now())) {
+            throw new InvalidCredentialsException("Refresh token has expired");
+        }
+
+        refreshToken.setUsedAt(LocalDateTime.now());
+        User user = refreshToken.getUser();
+        Hibernate.initialize(user);
+        String newToken = issue(user, refreshToken.getFamilyId());
+        return new RotatedRefreshToken(user, newToken);
+    }
+
+    /**
+     * Revokes every refresh token issued to a user.
+     *
+     * @param user The user whose tokens are revoked
+     */
+    @Transactional
+    public void revokeAll(User user) {
+        refreshTokenRepository.revokeAllByUserId(user.getId());
+    }
+
+    /**
+     * Revokes the family of the given refresh token, if it exists.
+     *
+     * @param rawToken The refresh token presented by the client
+     */
+    @Transactional
+    public void revokeFamily(String rawToken) {
+        if (!StringUtils.hasText(rawToken)) {
+            return;
+        }
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /**
+     * Deletes expired refresh tokens.
+     */
+    @Scheduled(cron = "${security.jwt.refresh-token-purge-cron:0 0 3 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        log.info("Purged {} expired refresh tokens", deleted);
+    }
+
+    /**
+     * Gets the refresh token expiration time.
+     *
+     * @return Refresh token expiration time in milliseconds
+     */
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    private String issue(User user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        LocalDateTime expiresAt = LocalDateTime.now().plusNanos(refreshExpiration * 1_000_000);
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), familyId, user, expiresAt));
+        return rawToken;
+    }
+
+    private static String hash(String rawToken) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(rawToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    /**
+     * Result of a refresh token rotation.
+     */
+    public static final class RotatedRefreshToken {
+
+        private final User user;
+        private final String refreshToken;
+
+        private RotatedRefreshToken(User user, String refreshToken) {
+            this.user = user;
+            this.refreshToken = refreshToken;
+        }
+
+        public User getUser() {
+            return user;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import com.gklyphon.AnswerQ.models.User;
+import com.gklyphon.AnswerQ.services.email.EmailOutboxService;
+import com.gklyphon.AnswerQ.services.email.EmailTemplateRenderer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces sign-in alert emails per user.
+ *
+ * <p>The first sign-in of a window is alerted immediately, so a real intrusion is still
+ * reported without delay. Further sign-ins within the window are only counted, and one digest
+ * ("N more sign-ins in the last M minutes") is queued when the window closes. Windows live in
+ * memory and are closed by a scheduled flush; a digest pending on a node that stops is lost,
+ * which only drops the summary of sign-ins whose first alert was already sent.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class SignInAlertCoalescer {
+
+    private static final String SUBJECT = "New Login Detected on Your Account";
+
+    private final EmailOutboxService emailOutboxService;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    private final boolean enabled;
+    private final Duration window;
+    private final Map<Long, AlertWindow> windows = new ConcurrentHashMap<>();
+    private final Counter coalescedCounter;
+
+    public SignInAlertCoalescer(EmailOutboxService emailOutboxService, EmailTemplateRenderer emailTemplateRenderer,
+                                MeterRegistry meterRegistry,
+                                @Value("${security.sign-in-alert.coalesce:true}") boolean enabled,
+                                @Value("${security.sign-in-alert.window:10m}") Duration window) {
+        this.emailOutboxService = emailOutboxService;
+        this.emailTemplateRenderer = emailTemplateRenderer;
+        this.enabled = enabled;
+        this.window = window;
+        this.coalescedCounter = Counter.builder("email.sign_in_alert.coalesced")
+                .description("Sign-in alerts merged into a digest instead of sent individually")
+                .register(meterRegistry);
+        Gauge.builder("email.sign_in_alert.windows", windows, Map::size)
+                .description("Users with an open sign-in alert window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records a successful sign-in. Queues an alert when it opens a new window, otherwise
+     * adds it to the window's digest. An expired window replaced by the new one has its
+     * digest queued first.
+     *
+     * @param user The user who signed in
+     */
+    public void signedIn(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!enabled || user.getId() == null) {
+            sendAlert(user.getEmail(), user.getFirstname(), now);
+            return;
+        }
+        boolean[] opened = {false};
+        AlertWindow[] expired = {null};
+        windows.compute(user.getId(), (id, current) -> {
+            if (current == null || current.isClosed(now, window)) {
+                opened[0] = true;
+                expired[0] = current;
+                return new AlertWindow(user.getEmail(), user.getFirstname(), now);
+            }
+            return current.withSignIn(now);
+        });
+        // A window that expired before the flush got to it is replaced here, so its digest goes out here too
+        if (expired[0] != null && expired[0].coalesced > 0) {
+            sendDigest(expired[0]);
+        }
+        if (opened[0]) {
+            sendAlert(user.getEmail(), user.getFirstname(), now);
+        } else {
+            coalescedCounter.increment();
+        }
+    }
+
+    /**
+     * Closes expired windows and queues a digest for those that absorbed further sign-ins.
+     */
+    @Scheduled(fixedDelayString = "${security.sign-in-alert.flush-interval:30s}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AlertWindow> closed = new ArrayList<>();
+        for (Long userId : windows.keySet()) {
+            windows.computeIfPresent(userId, (id, current) -> {
+                if (!current.isClosed(now, window)) {
+                    return current;
+                }
+                closed.add(current);
+                return null;
+            });
+        }
+        for (AlertWindow alertWindow : closed) {
+            if (alertWindow.coalesced > 0) {
+                sendDigest(alertWindow);
+            }
+        }
+    }
+
+    private void sendAlert(String email, String firstname, LocalDateTime signedInAt) {
+        String htmlMessage = emailTemplateRenderer.render(EmailTemplateRenderer.SIGN_IN_ALERT, Map.of(
+                "firstname", Objects.toString(firstname, ""),
+                "timestamp", signedInAt.format(EmailTemplateRenderer.TIMESTAMP_FORMATTER)));
+        emailOutboxService.enqueue(email, SUBJECT, htmlMessage);
+    }
+
+    private void sendDigest(AlertWindow alertWindow) {
+        long windowMinutes = Math.max(1, window.toMinutes());
+        String htmlMessage = emailTemplateRenderer.render(EmailTemplateRenderer.SIGN_IN_DIGEST, Map.of(
+                "firstname", Objects.toString(alertWindow.firstname, ""),
+                "count", alertWindow.coalesced,
+                "signIns", alertWindow.coalesced == 1 ? "sign-in" : "sign-ins",
+                "windowMinutes", windowMinutes,
+                "minutes", windowMinutes == 1 ? "minute" : "minutes",
+                "firstTimestamp", alertWindow.firstCoalescedAt.format(EmailTemplateRenderer.TIMESTAMP_FORMATTER),
+                "lastTimestamp", alertWindow.lastSignInAt.format(EmailTemplateRenderer.TIMESTAMP_FORMATTER)));
+        emailOutboxService.enqueue(alertWindow.email, SUBJECT, htmlMessage);
+    }
+
+    /**
+     * Immutable state of one user's alert window.
+     */
+    private static final class AlertWindow {
+
+        private final String email;
+        private final String firstname;
+        private final LocalDateTime openedAt;
+        private final int coalesced;
+        private final LocalDateTime firstCoalescedAt;
+        private final LocalDateTime lastSignInAt;
+
+        private AlertWindow(String email, String firstname, LocalDateTime openedAt) {
+            this(email, firstname, openedAt, 0, null, openedAt);
+        }
+
+        private AlertWindow(String email, String firstname, LocalDateTime openedAt, int coalesced,
+                            LocalDateTime firstCoalescedAt, LocalDateTime lastSignInAt) {
+            this.email = email;
+            this.firstname = firstname;
+            this.openedAt = openedAt;
+            this.coalesced = coalesced;
+            this.firstCoalescedAt = firstCoalescedAt;
+            this.lastSignInAt = lastSignInAt;
+        }
+
+        private AlertWindow withSignIn(LocalDateTime signedInAt) {
+            return new AlertWindow(email, firstname, openedAt, coalesced + 1,
+                    firstCoalescedAt != null ? firstCoalescedAt : signedInAt, signedInAt);
+        }
+
+        private boolean isClosed(LocalDateTime now, Duration window) {
+            return !openedAt.plus(window).isAfter(now);
+        }
+    }
+}
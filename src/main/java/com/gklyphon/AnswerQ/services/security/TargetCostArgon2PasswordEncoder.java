@@ -0,0 +1,48 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Argon2 encoder that reports hashes with less memory or fewer iterations than the target,
+ * or a different parallelism, as needing an upgrade. Hashes above the target are kept.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public class TargetCostArgon2PasswordEncoder extends Argon2PasswordEncoder {
+
+    public static final int SALT_LENGTH = 16;
+    public static final int HASH_LENGTH = 32;
+    public static final int PARALLELISM = 4;
+    public static final int MEMORY_KB = 65536;
+
+    private static final Pattern PARAMETERS_PATTERN = Pattern.compile("\\$m=(\\d+),t=(\\d+),p=(\\d+)\\$");
+
+    private final int iterations;
+
+    public TargetCostArgon2PasswordEncoder(int iterations) {
+        super(SALT_LENGTH, HASH_LENGTH, PARALLELISM, MEMORY_KB, iterations);
+        this.iterations = iterations;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = PARAMETERS_PATTERN.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return true;
+        }
+        return Integer.parseInt(matcher.group(1)) < MEMORY_KB
+                || Integer.parseInt(matcher.group(2)) < iterations
+                || Integer.parseInt(matcher.group(3)) != PARALLELISM;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+}
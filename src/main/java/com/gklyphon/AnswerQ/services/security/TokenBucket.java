@@ -0,0 +1,48 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token bucket.
+ *
+ * <p>The bucket state is an immutable pair of available tokens and last refill time swapped
+ * with compare-and-set, so concurrent requests for the same key never block each other.
+ * Tokens are refilled lazily on each attempt.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+final class TokenBucket {
+
+    private final long capacity;
+    private final double tokensPerNano;
+    private final AtomicReference<State> state;
+
+    TokenBucket(long capacity, long refillPeriodNanos, long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) capacity / refillPeriodNanos;
+        this.state = new AtomicReference<>(new State(capacity, nowNanos));
+    }
+
+    /**
+     * Tries to take one token.
+     *
+     * @param nowNanos Current {@link System#nanoTime()}
+     * @return 0 if a token was taken, otherwise the nanoseconds until one becomes available
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            State current = state.get();
+            double tokens = Math.min(capacity, current.tokens + (nowNanos - current.refilledAt) * tokensPerNano);
+            if (tokens < 1.0) {
+                return (long) Math.ceil((1.0 - tokens) / tokensPerNano);
+            }
+            if (state.compareAndSet(current, new State(tokens - 1.0, nowNanos))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Size and TTL bounded cache of {@link UserSnapshot} entries keyed by email.
+ *
+ * <p>Backed by Caffeine (W-TinyLFU eviction). Services that change a user's email, password,
+ * verification state or token version must call {@link #evict(String...)} so the next request
+ * reloads the user. Hit rate, evictions and size are exported through Micrometer under the
+ * {@code cache="userDetails"} tag.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@Component
+public class UserDetailsCache {
+
+    private static final String CACHE_NAME = "userDetails";
+
+    private final boolean enabled;
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserDetailsCache(MeterRegistry meterRegistry,
+                            @Value("${security.user-cache.enabled:true}") boolean enabled,
+                            @Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${security.user-cache.ttl:5m}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Returns the cached snapshot for an email, loading it on a miss.
+     *
+     * @param email  The user's email
+     * @param loader Function that loads the snapshot from the database
+     * @return The user snapshot
+     */
+    public UserSnapshot get(String email, Function<String, UserSnapshot> loader) {
+        if (!enabled) {
+            return loader.apply(email);
+        }
+        return cache.get(email, loader);
+    }
+
+    /**
+     * Evicts the given emails now and, when called inside a transaction, again after commit
+     * so a concurrent reload cannot cache the pre-commit state.
+     *
+     * @param emails Emails whose entries are evicted
+     */
+    public void evict(String... emails) {
+        List<String> keys = Arrays.stream(emails).filter(Objects::nonNull).toList();
+        cache.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(keys);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import com.gklyphon.AnswerQ.models.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Immutable copy of the fields of a {@link User} needed for authentication.
+ * Cached instead of the JPA entity so no persistence context or lazy collection is retained.
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+public final class UserSnapshot implements UserDetails {
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final boolean enabled;
+    private final int tokenVersion;
+
+    private UserSnapshot(Long id, String email, String password, boolean enabled, int tokenVersion) {
+        this.id = id;
+        this.email = email;
+        this.password = password;
+        this.enabled = enabled;
+        this.tokenVersion = tokenVersion;
+    }
+
+    /**
+     * Copies the authentication fields of a user entity.
+     *
+     * @param user The user entity
+     * @return Snapshot of the user
+     */
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(user.getId(), user.getEmail(), user.getPassword(),
+                Boolean.TRUE.equals(user.getEnabled()), user.getTokenVersion());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of();
+    }
+
+    @Override
+    public String getPassword() {
+        return password;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -0,0 +1,59 @@
+-- Schema that ddl-auto=update built from the original entities. Databases created that way
+-- are baselined at this version (spring.flyway.baseline-on-migrate) and skip this script;
+-- everything added since then lives in the later migrations, which both paths run.
+
+create table users (
+    id                      bigint generated by default as identity primary key,
+    created_at              timestamp(6),
+    updated_at              timestamp(6),
+    firstname               varchar(255),
+    lastname                varchar(255),
+    birthdate               date,
+    email                   varchar(255),
+    gender                  varchar(255),
+    phone_number            varchar(255),
+    password                varchar(255),
+    enabled                 boolean,
+    verification_code       varchar(255),
+    verification_expiration timestamp(6),
+    constraint uk_users_email unique (email)
+);
+
+create table form (
+    id         bigint generated by default as identity primary key,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    name       varchar(255),
+    is_enabled boolean not null,
+    pin        varchar(255),
+    user_id    bigint references users (id)
+);
+
+create table question (
+    id          bigint generated by default as identity primary key,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    content     varchar(255),
+    is_required boolean not null,
+    form_id     bigint not null references form (id)
+);
+
+create table answer (
+    id          bigint generated by default as identity primary key,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    content     varchar(255),
+    is_correct  boolean not null,
+    question_id bigint not null references question (id)
+);
+
+create table user_answer (
+    id          bigint generated by default as identity primary key,
+    created_at  timestamp(6),
+    updated_at  timestamp(6),
+    form_id     bigint not null references form (id),
+    question_id bigint not null references question (id),
+    answer_id   bigint references answer (id),
+    user_id     bigint not null references users (id),
+    answered_at date
+);
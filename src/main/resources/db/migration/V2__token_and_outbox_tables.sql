@@ -0,0 +1,47 @@
+-- Columns and tables added after the baseline: the token version used to revoke access
+-- tokens, refresh tokens, the revoked access token deny list and the email outbox.
+-- Databases that ran those changes under ddl-auto=update already have them, hence the
+-- "if not exists" everywhere.
+
+alter table users add column if not exists token_version integer;
+
+create table if not exists refresh_token (
+    id         bigint generated by default as identity primary key,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    token_hash varchar(64) not null unique,
+    family_id  varchar(36) not null,
+    user_id    bigint not null references users (id),
+    expires_at timestamp(6) not null,
+    used_at    timestamp(6),
+    revoked    boolean not null
+);
+
+create index if not exists idx_refresh_token_family on refresh_token (family_id);
+create index if not exists idx_refresh_token_user on refresh_token (user_id);
+
+create table if not exists revoked_token (
+    id         bigint generated by default as identity primary key,
+    token_id   varchar(36) not null unique,
+    expires_at timestamp(6) not null,
+    revoked_at timestamp(6) not null
+);
+
+create index if not exists idx_revoked_token_revoked_at on revoked_token (revoked_at);
+
+create table if not exists email_outbox (
+    id              bigint generated by default as identity primary key,
+    created_at      timestamp(6),
+    updated_at      timestamp(6),
+    recipient       varchar(255) not null,
+    subject         varchar(255) not null,
+    body            text not null,
+    status          varchar(16) not null check (status in ('PENDING', 'SENDING', 'SENT', 'FAILED')),
+    attempts        integer not null,
+    next_attempt_at timestamp(6) not null,
+    locked_until    timestamp(6),
+    sent_at         timestamp(6),
+    last_error      varchar(1000)
+);
+
+create index if not exists idx_email_outbox_status_next_attempt on email_outbox (status, next_attempt_at);
@@ -0,0 +1,20 @@
+-- question, answer and user_answer now take their ids from pooled sequences (allocation
+-- size 50) instead of IDENTITY columns. Create the sequences if missing, drop the identity,
+-- and move each sequence past the highest existing id. Hibernate's pooled
+-- optimizer treats a nextval result v as the block v-49..v, so a sequence at max(id) never
+-- hands out an id that is already taken.
+
+create sequence if not exists question_seq start with 1 increment by 50;
+create sequence if not exists answer_seq start with 1 increment by 50;
+create sequence if not exists user_answer_seq start with 1 increment by 50;
+
+alter table question alter column id drop identity if exists;
+alter table answer alter column id drop identity if exists;
+alter table user_answer alter column id drop identity if exists;
+
+select setval('question_seq', (select max(id) from question))
+where (select max(id) from question) > (select last_value from question_seq);
+select setval('answer_seq', (select max(id) from answer))
+where (select max(id) from answer) > (select last_value from answer_seq);
+select setval('user_answer_seq', (select max(id) from user_answer))
+where (select max(id) from user_answer) > (select last_value from user_answer_seq);
@@ -0,0 +1,39 @@
+-- Indexes for the queries in the repositories package. Built concurrently so existing tables
+-- keep accepting writes; Flyway runs a script of concurrent builds outside a transaction.
+--
+-- Every listing filters on one foreign key and either pages by offset or continues after an
+-- id in id order (keyset cursors), so each index is (foreign key, id): the filter and the
+-- order come from the same index and the estimated counts can use it too.
+
+-- user_answer: /by-form, /by-user, /by-question and /by-answer listings and cursors
+create index concurrently if not exists idx_user_answer_form_id on user_answer (form_id, id);
+create index concurrently if not exists idx_user_answer_user_id on user_answer (user_id, id);
+create index concurrently if not exists idx_user_answer_question_id on user_answer (question_id, id);
+-- answer_id is null for free-text answers, which are never looked up by answer
+create index concurrently if not exists idx_user_answer_answer_id on user_answer (answer_id, id)
+    where answer_id is not null;
+
+-- form: forms of a user
+create index concurrently if not exists idx_form_user_id on form (user_id, id);
+
+-- question: questions of a form, also the first step of a form render
+create index concurrently if not exists idx_question_form_id on question (form_id, id);
+
+-- answer: options of a question, also the answers of every question of a form render
+create index concurrently if not exists idx_answer_question_id on answer (question_id, id);
+
+-- users: account verification; the code is cleared once the account is verified
+create index concurrently if not exists idx_users_verification_code on users (verification_code)
+    where verification_code is not null;
+
+-- email_outbox: expired leases picked up by the dispatcher and the purge of sent mail
+create index concurrently if not exists idx_email_outbox_sending_locked_until on email_outbox (locked_until)
+    where status = 'SENDING';
+create index concurrently if not exists idx_email_outbox_sent_at on email_outbox (sent_at)
+    where status = 'SENT';
+
+-- revoked_token: deny list loaded at startup and purge of expired entries
+create index concurrently if not exists idx_revoked_token_expires_at on revoked_token (expires_at);
+
+-- refresh_token: purge of expired tokens
+create index concurrently if not exists idx_refresh_token_expires_at on refresh_token (expires_at);
@@ -0,0 +1,11 @@
+-- V3 only moved a sequence when max(id) > last_value. A sequence V3 had just created has
+-- last_value = 1 and is_called = false, so with max(id) = 1 it was left alone and the next
+-- nextval returns 1, an id already taken. Mark each sequence as called at max(id) whenever
+-- max(id) is not below last_value; sequences already ahead of their table are left alone.
+
+select setval('question_seq', (select max(id) from question), true)
+where (select max(id) from question) >= (select last_value from question_seq);
+select setval('answer_seq', (select max(id) from answer), true)
+where (select max(id) from answer) >= (select last_value from answer_seq);
+select setval('user_answer_seq', (select max(id) from user_answer), true)
+where (select max(id) from user_answer) >= (select last_value from user_answer_seq);
@@ -0,0 +1,81 @@
+package com.gklyphon.AnswerQ.benchmarks;
+
+import com.gklyphon.AnswerQ.services.email.EmailTemplateRenderer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of building the sign-in alert email body.
+ *
+ * <p>{@code legacyConcatenation} reproduces the previous string concatenation with a new
+ * {@link DateTimeFormatter} per call. {@code precompiledTemplate} renders the compiled
+ * template through {@link EmailTemplateRenderer}. Run with {@code -prof gc} to compare
+ * allocations per email ({@code gc.alloc.rate.norm}).</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class EmailTemplateBenchmark {
+
+    private EmailTemplateRenderer renderer;
+    private String firstname;
+
+    @Setup
+    public void setUp() {
+        renderer = new EmailTemplateRenderer();
+        firstname = "Benchmark";
+    }
+
+    @Benchmark
+    public String legacyConcatenation() {
+        return "<html>" +
+                "<body style=\"font-family: Arial, sans-serif; line-height: 1.6; color: #333;\">" +
+                "<div style=\"max-width: 600px; margin: 0 auto; background-color: #f8f9fa; padding: 25px; border-radius: 8px;\">" +
+                "<div style=\"text-align: center; margin-bottom: 20px;\">" +
+                "<h2 style=\"color: #d32f2f; margin-bottom: 5px;\">Security Alert</h2>" +
+                "<div style=\"height: 2px; background: linear-gradient(to right, #f8f9fa, #d32f2f, #f8f9fa); margin: 10px 0;\"></div>" +
+                "</div>" +
+                "<p>Hello <strong>" + firstname + "</strong>,</p>" +
+                "<p>We detected a new sign-in to your account:</p>" +
+                "<div style=\"background-color: #fff; padding: 15px; border-left: 4px solid #d32f2f; margin: 20px 0; box-shadow: 0 2px 4px rgba(0,0,0,0.05);\">" +
+                "<p style=\"margin: 8px 0;\"><strong>Time:</strong> " + LocalDateTime.now().format(DateTimeFormatter.ofPattern("MMMM dd, yyyy hh:mm a")) + "</p>" +
+                "</div>" +
+                "<p>If this wasn't you:</p>" +
+                "<ul style=\"padding-left: 20px; margin: 15px 0;\">" +
+                "<li>Change your password immediately</li>" +
+                "</ul>" +
+                "<div style=\"font-size: 13px; color: #777; border-top: 1px solid #eee; padding-top: 15px; margin-top: 20px;\">" +
+                "<p>Ignore this email if you recognize this activity. For security reasons, we recommend never sharing your credentials.</p>" +
+                "</div>" +
+                "</div>" +
+                "</body>" +
+                "</html>";
+    }
+
+    @Benchmark
+    public String precompiledTemplate() {
+        return renderer.render(EmailTemplateRenderer.SIGN_IN_ALERT, Map.of(
+                "firstname", firstname,
+                "timestamp", LocalDateTime.now().format(EmailTemplateRenderer.TIMESTAMP_FORMATTER)));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EmailTemplateBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
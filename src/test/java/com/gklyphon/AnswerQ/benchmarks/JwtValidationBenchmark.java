@@ -0,0 +1,90 @@
+package com.gklyphon.AnswerQ.benchmarks;
+
+import com.gklyphon.AnswerQ.models.User;
+import com.gklyphon.AnswerQ.services.jwt.JwtService;
+import com.gklyphon.AnswerQ.services.jwt.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request cost of validating a bearer token in {@link JwtService}.
+ *
+ * <p>{@code legacyValidation} reproduces the previous behaviour, where a request decoded the
+ * secret, built a new parser and verified the signature once for the username lookup and twice
+ * more inside {@code isTokenValid}. {@code parseOnceValidation} uses the cached key and parser.</p>
+ *
+ * <p>Run with {@code ./mvnw test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=com.gklyphon.AnswerQ.benchmarks.JwtValidationBenchmark}.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtValidationBenchmark {
+
+    private String secretKey;
+    private JwtService jwtService;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        secretKey = Encoders.BASE64.encode(keyBytes);
+        jwtService = new JwtService(secretKey, TimeUnit.HOURS.toMillis(1));
+
+        user = new User();
+        user.setId(42L);
+        user.setEmail("benchmark@answerq.dev");
+        user.setEnabled(true);
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean legacyValidation() {
+        String username = legacyClaims(token).getSubject();
+        return username.equals(user.getUsername())
+                && legacyClaims(token).getSubject().equals(user.getUsername())
+                && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean parseOnceValidation() {
+        VerifiedToken verifiedToken = jwtService.verifyToken(token);
+        return jwtService.isTokenValid(verifiedToken, user);
+    }
+
+    private Claims legacyClaims(String jwt) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtValidationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
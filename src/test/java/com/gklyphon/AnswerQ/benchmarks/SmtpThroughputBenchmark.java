@@ -0,0 +1,103 @@
+package com.gklyphon.AnswerQ.benchmarks;
+
+import com.gklyphon.AnswerQ.services.email.SmtpTransportPool;
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures email delivery throughput, in messages per second, against a local GreenMail
+ * SMTP server.
+ *
+ * <p>{@code connectionPerMessage} reproduces the previous behaviour, where every email went
+ * through {@link JavaMailSenderImpl#send(MimeMessage)} and opened its own connection.
+ * {@code pooledBatch} sends batches over persistent connections from {@link SmtpTransportPool}.
+ * Against a real provider the gap is larger, since each new connection also pays for
+ * STARTTLS and AUTH.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class SmtpThroughputBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+
+    private GreenMail greenMail;
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool pool;
+
+    @Setup
+    public void setUp() {
+        greenMail = new GreenMail(new ServerSetup(0, "127.0.0.1", ServerSetup.PROTOCOL_SMTP))
+                .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+        greenMail.start();
+
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        pool = new SmtpTransportPool(mailSender.getSession(), "smtp", "127.0.0.1", greenMail.getSmtp().getPort(),
+                null, null, 4, Duration.ofMinutes(1), 1000, Duration.ofSeconds(10), new SimpleMeterRegistry());
+    }
+
+    @TearDown(Level.Iteration)
+    public void purge() throws Exception {
+        greenMail.purgeEmailFromAllMailboxes();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.close();
+        greenMail.stop();
+    }
+
+    @Benchmark
+    public void connectionPerMessage() throws MessagingException {
+        mailSender.send(message(mailSender));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<SmtpTransportPool.SendResult> pooledBatch() throws MessagingException {
+        List<MimeMessage> messages = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            messages.add(message(mailSender));
+        }
+        return pool.send(messages);
+    }
+
+    private static MimeMessage message(JavaMailSenderImpl mailSender) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        message.setFrom(new InternetAddress("noreply@answerq.dev"));
+        message.setRecipient(MimeMessage.RecipientType.TO, new InternetAddress("benchmark@answerq.dev"));
+        message.setSubject("Sign-in alert");
+        message.setText("<p>New sign-in to your account</p>", "UTF-8", "html");
+        return message;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SmtpThroughputBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,166 @@
+package com.gklyphon.AnswerQ.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bulk {@code user_answer} inserts, in rows per second, against PostgreSQL.
+ *
+ * <p>Both benchmarks issue the statements Hibernate produces for one transaction that saves
+ * {@value #ROWS} user answers. {@code identityRowByRow} reproduces the previous
+ * {@code IDENTITY} mapping: Hibernate must run every insert on its own to read the generated
+ * key, so each row is one round trip. {@code pooledSequenceBatched} reproduces the pooled
+ * sequence mapping: one {@code nextval} per 50 rows, inserts sent in JDBC batches of 50,
+ * and pgjdbc's {@code reWriteBatchedInserts} turning each batch into multi-row inserts.</p>
+ *
+ * <p>Needs a running PostgreSQL. Pass {@code -Dbenchmark.jdbc.url}, {@code -Dbenchmark.jdbc.username}
+ * and {@code -Dbenchmark.jdbc.password} (defaults: {@code jdbc:postgresql://localhost:5432/answerq},
+ * {@code postgres}, {@code postgres}). The benchmark creates and drops its own tables.</p>
+ *
+ * @author JFCiscoHuerta
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserAnswerInsertBenchmark {
+
+    private static final int ROWS = 500;
+    private static final int BATCH_SIZE = 50;
+
+    private static final String COLUMNS = "(form_id, question_id, answer_id, user_id, answered_at, created_at, updated_at)";
+
+    private Connection identityConnection;
+    private Connection batchedConnection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        identityConnection = connect(false);
+        batchedConnection = connect(true);
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute("drop table if exists bench_user_answer_identity");
+            statement.execute("drop table if exists bench_user_answer_sequence");
+            statement.execute("drop sequence if exists bench_user_answer_seq");
+            statement.execute("create table bench_user_answer_identity (id bigint generated by default as identity primary key, "
+                    + "form_id bigint not null, question_id bigint not null, answer_id bigint, user_id bigint not null, "
+                    + "answered_at date, created_at timestamp, updated_at timestamp)");
+            statement.execute("create sequence bench_user_answer_seq start with 1 increment by " + BATCH_SIZE);
+            statement.execute("create table bench_user_answer_sequence (id bigint primary key, "
+                    + "form_id bigint not null, question_id bigint not null, answer_id bigint, user_id bigint not null, "
+                    + "answered_at date, created_at timestamp, updated_at timestamp)");
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute("truncate bench_user_answer_identity, bench_user_answer_sequence");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = identityConnection.createStatement()) {
+            statement.execute("drop table if exists bench_user_answer_identity");
+            statement.execute("drop table if exists bench_user_answer_sequence");
+            statement.execute("drop sequence if exists bench_user_answer_seq");
+        }
+        identityConnection.close();
+        batchedConnection.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long identityRowByRow() throws SQLException {
+        long lastId = 0;
+        try (PreparedStatement insert = identityConnection.prepareStatement(
+                "insert into bench_user_answer_identity " + COLUMNS + " values (?, ?, ?, ?, ?, ?, ?)",
+                Statement.RETURN_GENERATED_KEYS)) {
+            for (int i = 0; i < ROWS; i++) {
+                bind(insert, 1, i);
+                insert.executeUpdate();
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    lastId = keys.getLong(1);
+                }
+            }
+        }
+        identityConnection.commit();
+        return lastId;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public long pooledSequenceBatched() throws SQLException {
+        long nextId = 0;
+        long highId = 0;
+        try (PreparedStatement nextval = batchedConnection.prepareStatement("select nextval('bench_user_answer_seq')");
+             PreparedStatement insert = batchedConnection.prepareStatement(
+                     "insert into bench_user_answer_sequence (id, " + COLUMNS.substring(1) + " values (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                if (nextId == highId) {
+                    try (ResultSet resultSet = nextval.executeQuery()) {
+                        resultSet.next();
+                        nextId = resultSet.getLong(1);
+                        highId = nextId + BATCH_SIZE;
+                    }
+                }
+                insert.setLong(1, nextId++);
+                bind(insert, 2, i);
+                insert.addBatch();
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        batchedConnection.commit();
+        return nextId;
+    }
+
+    private static void bind(PreparedStatement insert, int index, int row) throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        insert.setLong(index, 1L);
+        insert.setLong(index + 1, row % 50 + 1L);
+        insert.setLong(index + 2, row % 200 + 1L);
+        insert.setLong(index + 3, row % 1000 + 1L);
+        insert.setDate(index + 4, Date.valueOf(LocalDate.now()));
+        insert.setTimestamp(index + 5, Timestamp.valueOf(now));
+        insert.setTimestamp(index + 6, Timestamp.valueOf(now));
+    }
+
+    private static Connection connect(boolean rewriteBatchedInserts) throws SQLException {
+        Properties properties = new Properties();
+        properties.setProperty("user", System.getProperty("benchmark.jdbc.username", "postgres"));
+        properties.setProperty("password", System.getProperty("benchmark.jdbc.password", "postgres"));
+        properties.setProperty("reWriteBatchedInserts", String.valueOf(rewriteBatchedInserts));
+        Connection connection = DriverManager.getConnection(
+                System.getProperty("benchmark.jdbc.url", "jdbc:postgresql://localhost:5432/answerq"), properties);
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserAnswerInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
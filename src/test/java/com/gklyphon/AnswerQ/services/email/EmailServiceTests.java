@@ -0,0 +1,78 @@
+package com.gklyphon.AnswerQ.services.email;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EmailServiceTests {
+
+    private static final List<EmailMessage> EMAILS = List.of(new EmailMessage("user@answerq.dev", "Subject", "<p>Body</p>"));
+
+    private Session session;
+    private SimpleMeterRegistry meterRegistry;
+    private MailCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        Properties properties = new Properties();
+        properties.put("mail.smtp.connectiontimeout", "1000");
+        session = Session.getInstance(properties);
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new MailCircuitBreaker(meterRegistry, 1, Duration.ofMinutes(1), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterRegistry.close();
+    }
+
+    @Test
+    void connectionFailureCountsAgainstTheProvider() throws Exception {
+        try (SmtpTransportPool pool = pool(1, closedPort())) {
+            List<SmtpTransportPool.SendResult> results = service(pool).sendEmails(EMAILS);
+
+            assertFalse(results.get(0).isSuccess());
+            assertEquals(MailCircuitBreaker.State.OPEN, breaker.getState());
+        }
+    }
+
+    @Test
+    void exhaustedPoolDoesNotCountAgainstTheProvider() throws Exception {
+        try (SmtpTransportPool pool = pool(0, closedPort())) {
+            EmailService emailService = service(pool);
+
+            assertThrows(MessagingException.class, () -> emailService.sendEmails(EMAILS));
+            assertEquals(MailCircuitBreaker.State.CLOSED, breaker.getState());
+        }
+    }
+
+    private EmailService service(SmtpTransportPool pool) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setSession(session);
+        return new EmailService(mailSender, pool, breaker);
+    }
+
+    private SmtpTransportPool pool(int maxConnections, int port) {
+        return new SmtpTransportPool(session, "smtp", "127.0.0.1", port, null, null,
+                maxConnections, Duration.ofMinutes(1), 100, Duration.ofMillis(50), meterRegistry);
+    }
+
+    private static int closedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.gklyphon.AnswerQ.services.email;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MailCircuitBreakerTests {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(100);
+    private static final long FAST_CALL_NANOS = Duration.ofMillis(10).toNanos();
+
+    private SimpleMeterRegistry meterRegistry;
+    private MailCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new MailCircuitBreaker(meterRegistry, 3, OPEN_DURATION, Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterRegistry.close();
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        assertEquals(MailCircuitBreaker.State.CLOSED, breaker.getState());
+
+        breaker.recordFailure();
+
+        assertEquals(MailCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+        assertTrue(breaker.getRemainingOpenTime().compareTo(Duration.ZERO) > 0);
+        assertEquals(2.0, meterRegistry.get("email.circuit.state").gauge().value());
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordSuccess(FAST_CALL_NANOS);
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertEquals(MailCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void slowCallsCountAsFailures() {
+        long slowCallNanos = Duration.ofSeconds(2).toNanos();
+        for (int i = 0; i < 3; i++) {
+            breaker.recordSuccess(slowCallNanos);
+        }
+
+        assertEquals(MailCircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void letsOneProbeThroughAfterTheOpenDuration() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(MailCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void successfulProbeClosesTheCircuit() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.recordSuccess(FAST_CALL_NANOS);
+
+        assertEquals(MailCircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+        assertEquals(Duration.ZERO, breaker.getRemainingOpenTime());
+    }
+
+    @Test
+    void failedProbeOpensTheCircuitAgain() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.recordFailure();
+
+        assertEquals(MailCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void releasedProbeLetsTheNextOneThrough() throws Exception {
+        open();
+        Thread.sleep(OPEN_DURATION.toMillis() + 20);
+        assertTrue(breaker.tryAcquirePermission());
+
+        breaker.releasePermission();
+
+        assertEquals(MailCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquirePermission());
+    }
+
+    @Test
+    void countsTransitions() {
+        open();
+
+        assertEquals(1.0, meterRegistry.get("email.circuit.transitions").tag("to", "open").counter().count());
+    }
+
+    private void open() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.gklyphon.AnswerQ.services.email;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SmtpTransportPoolTests {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+            .withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication())
+            .withPerMethodLifecycle(true);
+
+    private Session session;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        session = Session.getInstance(new Properties());
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterRegistry.close();
+    }
+
+    @Test
+    void reusesOneConnectionForABatch() throws Exception {
+        try (SmtpTransportPool pool = pool(2, Duration.ofMinutes(1), 100)) {
+            List<SmtpTransportPool.SendResult> results = pool.send(messages(10));
+
+            assertTrue(results.stream().allMatch(SmtpTransportPool.SendResult::isSuccess));
+            assertEquals(10, greenMail.getReceivedMessages().length);
+            assertEquals(1.0, openedConnections());
+        }
+    }
+
+    @Test
+    void keepsConnectionsOpenBetweenBatches() throws Exception {
+        try (SmtpTransportPool pool = pool(2, Duration.ofMinutes(1), 100)) {
+            for (int i = 0; i < 5; i++) {
+                pool.send(messages(2));
+            }
+
+            assertEquals(10, greenMail.getReceivedMessages().length);
+            assertEquals(1.0, openedConnections());
+        }
+    }
+
+    @Test
+    void recyclesConnectionAfterMessageLimit() throws Exception {
+        try (SmtpTransportPool pool = pool(2, Duration.ofMinutes(1), 3)) {
+            pool.send(messages(7));
+
+            assertEquals(7, greenMail.getReceivedMessages().length);
+            assertEquals(3.0, openedConnections());
+        }
+    }
+
+    @Test
+    void closesIdleConnections() throws Exception {
+        try (SmtpTransportPool pool = pool(2, Duration.ofMillis(50), 100)) {
+            pool.send(messages(1));
+            Thread.sleep(100);
+            pool.evictIdle();
+
+            assertEquals(0.0, meterRegistry.get("email.smtp.connections.open").gauge().value());
+            pool.send(messages(1));
+            assertEquals(2.0, openedConnections());
+        }
+    }
+
+    @Test
+    void neverOpensMoreThanTheMaximumConnections() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (SmtpTransportPool pool = pool(3, Duration.ofMinutes(1), 1000)) {
+            List<Future<List<SmtpTransportPool.SendResult>>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> pool.send(messages(5))));
+            }
+            for (Future<List<SmtpTransportPool.SendResult>> future : futures) {
+                assertTrue(future.get().stream().allMatch(SmtpTransportPool.SendResult::isSuccess));
+            }
+
+            assertEquals(80, greenMail.getReceivedMessages().length);
+            assertTrue(openedConnections() <= 3.0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private SmtpTransportPool pool(int maxConnections, Duration maxIdle, int maxMessagesPerConnection) {
+        return new SmtpTransportPool(session, "smtp", "127.0.0.1", greenMail.getSmtp().getPort(), null, null,
+                maxConnections, maxIdle, maxMessagesPerConnection, Duration.ofSeconds(10), meterRegistry);
+    }
+
+    private double openedConnections() {
+        return meterRegistry.get("email.smtp.connections.opened").counter().count();
+    }
+
+    private List<MimeMessage> messages(int count) throws Exception {
+        List<MimeMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MimeMessage message = new MimeMessage(session);
+            message.setFrom(new InternetAddress("noreply@answerq.dev"));
+            message.setRecipient(MimeMessage.RecipientType.TO, new InternetAddress("user" + i + "@answerq.dev"));
+            message.setSubject("Message " + i);
+            message.setText("Body " + i);
+            messages.add(message);
+        }
+        return messages;
+    }
+}
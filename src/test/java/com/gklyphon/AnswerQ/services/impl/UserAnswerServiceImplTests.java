@@ -0,0 +1,159 @@
+package com.gklyphon.AnswerQ.services.impl;
+
+import com.gklyphon.AnswerQ.dtos.FormSubmissionDto;
+import com.gklyphon.AnswerQ.exceptions.exception.ElementNotFoundException;
+import com.gklyphon.AnswerQ.exceptions.exception.InvalidSubmissionException;
+import com.gklyphon.AnswerQ.repositories.IAnswerRepository;
+import com.gklyphon.AnswerQ.repositories.IFormRepository;
+import com.gklyphon.AnswerQ.repositories.IQuestionRepository;
+import com.gklyphon.AnswerQ.repositories.IUserAnswerRepository;
+import com.gklyphon.AnswerQ.repositories.IUserRepository;
+import com.gklyphon.AnswerQ.responses.FormSubmissionResponse;
+import com.gklyphon.AnswerQ.services.pagination.PageCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserAnswerServiceImplTests {
+
+    private static final long FORM = 1L;
+    private static final long USER = 7L;
+    private static final long CHOICE_QUESTION = 10L;
+    private static final long OPTIONAL_TEXT_QUESTION = 11L;
+    private static final long REQUIRED_TEXT_QUESTION = 12L;
+    private static final long OTHER_FORM_QUESTION = 20L;
+    private static final long OPTION = 100L;
+    private static final long OTHER_QUESTION_OPTION = 200L;
+
+    private IFormRepository formRepository;
+    private IUserAnswerRepository userAnswerRepository;
+    private IFormRepository.RenderView form;
+    private UserAnswerServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        formRepository = mock(IFormRepository.class);
+        IQuestionRepository questionRepository = mock(IQuestionRepository.class);
+        IAnswerRepository answerRepository = mock(IAnswerRepository.class);
+        userAnswerRepository = mock(IUserAnswerRepository.class);
+
+        form = mock(IFormRepository.RenderView.class);
+        when(form.isEnabled()).thenReturn(true);
+        when(formRepository.findRenderViewById(FORM)).thenReturn(Optional.of(form));
+        List<IQuestionRepository.RenderView> questions = List.of(question(CHOICE_QUESTION, true),
+                question(OPTIONAL_TEXT_QUESTION, false), question(REQUIRED_TEXT_QUESTION, true));
+        List<IAnswerRepository.RenderView> answers = List.of(answer(OPTION, CHOICE_QUESTION), answer(101L, CHOICE_QUESTION));
+        when(questionRepository.findRenderViewsByFormId(FORM)).thenReturn(questions);
+        when(answerRepository.findRenderViewsByFormId(FORM)).thenReturn(answers);
+
+        service = new UserAnswerServiceImpl(userAnswerRepository, formRepository, questionRepository, answerRepository,
+                mock(IUserRepository.class), mock(PageCounter.class));
+    }
+
+    @Test
+    void storesAValidSubmission() throws Exception {
+        FormSubmissionResponse response = service.submit(FORM, USER, submission(
+                item(CHOICE_QUESTION, OPTION), item(REQUIRED_TEXT_QUESTION, null)));
+
+        assertEquals(2, response.saved());
+        verify(userAnswerRepository).saveAll(anyList());
+    }
+
+    @Test
+    void rejectsAQuestionOfAnotherForm() {
+        assertErrors(Map.of("answers[2]", "Question 20 does not belong to this form"),
+                item(CHOICE_QUESTION, OPTION), item(REQUIRED_TEXT_QUESTION, null), item(OTHER_FORM_QUESTION, null));
+    }
+
+    @Test
+    void rejectsAQuestionAnsweredTwice() {
+        assertErrors(Map.of("answers[2]", "Question 10 is answered more than once"),
+                item(CHOICE_QUESTION, OPTION), item(REQUIRED_TEXT_QUESTION, null), item(CHOICE_QUESTION, 101L));
+    }
+
+    @Test
+    void rejectsAnOptionOfAnotherQuestion() {
+        assertErrors(Map.of("answers[0]", "Answer 200 is not an option of question 10"),
+                item(CHOICE_QUESTION, OTHER_QUESTION_OPTION), item(REQUIRED_TEXT_QUESTION, null));
+    }
+
+    @Test
+    void rejectsAMissingOption() {
+        assertErrors(Map.of("answers[0]", "Question 10 requires an answer option"),
+                item(CHOICE_QUESTION, null), item(REQUIRED_TEXT_QUESTION, null));
+    }
+
+    @Test
+    void rejectsAMissingRequiredQuestion() {
+        assertErrors(Map.of("questions[12]", "Question 12 is required"),
+                item(CHOICE_QUESTION, OPTION), item(OPTIONAL_TEXT_QUESTION, null));
+    }
+
+    @Test
+    void reportsEveryProblemAtOnce() {
+        InvalidSubmissionException ex = assertThrows(InvalidSubmissionException.class, () -> service.submit(FORM, USER,
+                submission(item(OTHER_FORM_QUESTION, null), item(OPTIONAL_TEXT_QUESTION, OPTION))));
+
+        assertEquals(Set.of("answers[0]", "answers[1]", "questions[10]", "questions[12]"), ex.getErrors().keySet());
+        verify(userAnswerRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void rejectsADisabledForm() {
+        when(form.isEnabled()).thenReturn(false);
+
+        InvalidSubmissionException ex = assertThrows(InvalidSubmissionException.class, () -> service.submit(FORM, USER,
+                submission(item(CHOICE_QUESTION, OPTION), item(REQUIRED_TEXT_QUESTION, null))));
+
+        assertEquals(Map.of("form", "Form is not accepting responses"), ex.getErrors());
+    }
+
+    @Test
+    void rejectsAnUnknownForm() {
+        when(formRepository.findRenderViewById(2L)).thenReturn(Optional.empty());
+
+        assertThrows(ElementNotFoundException.class, () -> service.submit(2L, USER, submission(item(CHOICE_QUESTION, OPTION))));
+    }
+
+    private void assertErrors(Map<String, String> expected, FormSubmissionDto.AnswerItem... items) {
+        InvalidSubmissionException ex = assertThrows(InvalidSubmissionException.class,
+                () -> service.submit(FORM, USER, submission(items)));
+
+        assertEquals(expected, ex.getErrors());
+        verify(userAnswerRepository, never()).saveAll(anyList());
+    }
+
+    private static FormSubmissionDto submission(FormSubmissionDto.AnswerItem... items) {
+        return new FormSubmissionDto(List.of(items));
+    }
+
+    private static FormSubmissionDto.AnswerItem item(Long questionId, Long answerId) {
+        return new FormSubmissionDto.AnswerItem(questionId, answerId);
+    }
+
+    private static IQuestionRepository.RenderView question(long id, boolean required) {
+        IQuestionRepository.RenderView question = mock(IQuestionRepository.RenderView.class);
+        when(question.getId()).thenReturn(id);
+        when(question.isRequired()).thenReturn(required);
+        return question;
+    }
+
+    private static IAnswerRepository.RenderView answer(long id, long questionId) {
+        IAnswerRepository.RenderView answer = mock(IAnswerRepository.RenderView.class);
+        when(answer.getId()).thenReturn(id);
+        when(answer.getQuestionId()).thenReturn(questionId);
+        return answer;
+    }
+}
@@ -0,0 +1,246 @@
+package com.gklyphon.AnswerQ.services.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gklyphon.AnswerQ.repositories.IAnswerRepository;
+import com.gklyphon.AnswerQ.repositories.IFormRepository;
+import com.gklyphon.AnswerQ.repositories.IQuestionRepository;
+import com.gklyphon.AnswerQ.repositories.IUserRepository;
+import com.gklyphon.AnswerQ.responses.BulkIngestResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserAnswerIngestServiceTests {
+
+    private static final long FORM = 1L;
+    private static final long CHOICE_QUESTION = 10L;
+    private static final long TEXT_QUESTION = 11L;
+    private static final long OPTION = 100L;
+    private static final long USER = 7L;
+
+    private final List<String> copied = new ArrayList<>();
+    private final AtomicInteger failingCopies = new AtomicInteger();
+    private JdbcTemplate jdbcTemplate;
+    private PlatformTransactionManager transactionManager;
+    private IFormRepository formRepository;
+    private IQuestionRepository questionRepository;
+    private IAnswerRepository answerRepository;
+    private IUserRepository userRepository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        formRepository = mock(IFormRepository.class);
+        questionRepository = mock(IQuestionRepository.class);
+        answerRepository = mock(IAnswerRepository.class);
+        userRepository = mock(IUserRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+
+        IFormRepository.RenderView form = mock(IFormRepository.RenderView.class);
+        when(form.isEnabled()).thenReturn(true);
+        when(formRepository.findRenderViewById(FORM)).thenReturn(Optional.of(form));
+        when(formRepository.findRenderViewById(2L)).thenReturn(Optional.empty());
+        List<IQuestionRepository.RenderView> questions = List.of(question(CHOICE_QUESTION), question(TEXT_QUESTION));
+        List<IAnswerRepository.RenderView> answers = List.of(answer(OPTION, CHOICE_QUESTION));
+        when(questionRepository.findRenderViewsByFormId(FORM)).thenReturn(questions);
+        when(answerRepository.findRenderViewsByFormId(FORM)).thenReturn(answers);
+        when(userRepository.findExistingIds(anyCollection())).thenReturn(List.of(USER));
+
+        AtomicLong sequence = new AtomicLong();
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyInt())).thenAnswer(invocation -> {
+            int blocks = invocation.getArgument(2);
+            return LongStream.range(0, blocks).mapToObj(i -> sequence.addAndGet(50)).toList();
+        });
+        CopyManager copyManager = mock(CopyManager.class);
+        when(copyManager.copyIn(anyString(), any(Reader.class))).thenAnswer(invocation -> {
+            Reader reader = invocation.getArgument(1);
+            StringWriter csv = new StringWriter();
+            reader.transferTo(csv);
+            csv.toString().lines().forEach(copied::add);
+            return (long) copied.size();
+        });
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        Connection connection = mock(Connection.class);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation -> {
+            if (failingCopies.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+                throw new DataAccessResourceFailureException("connection lost");
+            }
+            return invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection);
+        });
+    }
+
+    @Test
+    void storesValidLines() throws Exception {
+        BulkIngestResponse response = ingest(100, """
+                {"formId":1,"questionId":10,"answerId":100,"userId":7,"answeredAt":"2026-10-01"}
+
+                {"formId":1,"questionId":11,"userId":7}
+                """);
+
+        assertEquals(2, response.lines());
+        assertEquals(2, response.inserted());
+        assertEquals(0, response.rejected());
+        assertEquals(2, copied.size());
+        assertEquals("1,1,10,100,7,2026-10-01", copied.get(0).substring(0, copied.get(0).lastIndexOf(',')));
+    }
+
+    @Test
+    void rejectsLinesLongerThanTheLimit() throws Exception {
+        String tooLong = "{\"formId\":1,\"questionId\":11,\"userId\":7,\"note\":\"" + "x".repeat(10_000) + "\"}";
+
+        BulkIngestResponse response = ingest(100, tooLong + "\n{\"formId\":1,\"questionId\":11,\"userId\":7}\n");
+
+        assertEquals(2, response.lines());
+        assertEquals(1, response.inserted());
+        assertEquals(List.of(new BulkIngestResponse.LineError(1, "Line is longer than 200 characters")), response.errors());
+    }
+
+    @Test
+    void commitsEachChunkInItsOwnTransaction() throws Exception {
+        BulkIngestResponse response = ingest(2, lines(5));
+
+        assertEquals(5, response.inserted());
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void reportsTheRowsOfAFailedChunkAsNotStored() throws Exception {
+        failingCopies.set(1);
+
+        BulkIngestResponse response = ingest(2, lines(3));
+
+        assertEquals(1, response.inserted());
+        assertEquals(2, response.rejected());
+        assertEquals("Not stored: database error", response.errors().get(0).message());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void rejectsMalformedJson() throws Exception {
+        assertRejected("{\"formId\":1,\"questionId\":11", "Malformed JSON");
+        assertRejected("[1, 11, 7]", "Line is not a JSON object");
+        assertRejected("{\"formId\":1,\"questionId\":11,\"userId\":7} {}", "Unexpected content after the JSON object");
+    }
+
+    @Test
+    void rejectsIdsThatAreNotIntegers() throws Exception {
+        assertRejected("{\"formId\":\"1\",\"questionId\":11,\"userId\":7}", "formId must be an integer");
+        assertRejected("{\"formId\":1,\"questionId\":11.5,\"userId\":7}", "questionId must be an integer");
+    }
+
+    @Test
+    void rejectsMissingIds() throws Exception {
+        assertRejected("{\"formId\":1,\"questionId\":11}", "formId, questionId and userId are required");
+    }
+
+    @Test
+    void rejectsABadDate() throws Exception {
+        assertRejected("{\"formId\":1,\"questionId\":11,\"userId\":7,\"answeredAt\":\"01/10/2026\"}",
+                "answeredAt must be an ISO date (yyyy-MM-dd)");
+        assertRejected("{\"formId\":1,\"questionId\":11,\"userId\":7,\"answeredAt\":20261001}",
+                "answeredAt must be an ISO date (yyyy-MM-dd)");
+    }
+
+    @Test
+    void rejectsAnUnknownForm() throws Exception {
+        assertRejected("{\"formId\":2,\"questionId\":11,\"userId\":7}", "Form 2 does not exist");
+    }
+
+    @Test
+    void rejectsAQuestionOfAnotherForm() throws Exception {
+        assertRejected("{\"formId\":1,\"questionId\":20,\"userId\":7}", "Question 20 does not belong to form 1");
+    }
+
+    @Test
+    void rejectsAnOptionOfAnotherQuestion() throws Exception {
+        assertRejected("{\"formId\":1,\"questionId\":11,\"answerId\":100,\"userId\":7}",
+                "Answer 100 is not an option of question 11");
+    }
+
+    @Test
+    void rejectsAMissingOption() throws Exception {
+        assertRejected("{\"formId\":1,\"questionId\":10,\"userId\":7}", "Question 10 requires an answer option");
+    }
+
+    @Test
+    void rejectsAnUnknownUser() throws Exception {
+        assertRejected("{\"formId\":1,\"questionId\":11,\"userId\":8}", "User 8 does not exist");
+    }
+
+    @Test
+    void reportsRejectedLinesByNumberAndStoresTheRest() throws Exception {
+        BulkIngestResponse response = ingest(100, """
+                {"formId":1,"questionId":11,"userId":7}
+                not json
+
+                {"formId":1,"questionId":10,"userId":7}
+                {"formId":1,"questionId":10,"answerId":100,"userId":7,"ignored":{"nested":[1,2]}}
+                """);
+
+        assertEquals(4, response.lines());
+        assertEquals(2, response.inserted());
+        assertEquals(List.of(2L, 4L), response.errors().stream().map(BulkIngestResponse.LineError::line).toList());
+    }
+
+    private void assertRejected(String line, String message) throws Exception {
+        BulkIngestResponse response = ingest(100, line + "\n");
+
+        assertEquals(0, response.inserted());
+        assertEquals(1, response.rejected());
+        assertTrue(response.errors().get(0).message().startsWith(message), response.errors().get(0).message());
+    }
+
+    private BulkIngestResponse ingest(int chunkSize, String body) throws Exception {
+        UserAnswerIngestService service = new UserAnswerIngestService(formRepository, questionRepository, answerRepository,
+                userRepository, jdbcTemplate, transactionManager, new ObjectMapper(), chunkSize, 200, 100);
+        return service.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String lines(int count) {
+        return "{\"formId\":1,\"questionId\":11,\"userId\":7}\n".repeat(count);
+    }
+
+    private static IQuestionRepository.RenderView question(long id) {
+        IQuestionRepository.RenderView question = mock(IQuestionRepository.RenderView.class);
+        when(question.getId()).thenReturn(id);
+        return question;
+    }
+
+    private static IAnswerRepository.RenderView answer(long id, long questionId) {
+        IAnswerRepository.RenderView answer = mock(IAnswerRepository.RenderView.class);
+        when(answer.getId()).thenReturn(id);
+        when(answer.getQuestionId()).thenReturn(questionId);
+        return answer;
+    }
+}
@@ -0,0 +1,85 @@
+package com.gklyphon.AnswerQ.services.security;
+
+import com.gklyphon.AnswerQ.models.User;
+import com.gklyphon.AnswerQ.services.email.EmailOutboxService;
+import com.gklyphon.AnswerQ.services.email.EmailTemplateRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SignInAlertCoalescerTests {
+
+    private static final Duration WINDOW = Duration.ofMillis(200);
+
+    private final List<String> sent = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private SignInAlertCoalescer coalescer;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        EmailOutboxService outbox = new EmailOutboxService(null) {
+            @Override
+            public void enqueue(String to, String subject, String text) {
+                sent.add(text);
+            }
+        };
+        coalescer = new SignInAlertCoalescer(outbox, new EmailTemplateRenderer(), meterRegistry, true, WINDOW);
+        user = new User();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+        user.setFirstname("Ada");
+    }
+
+    @AfterEach
+    void tearDown() {
+        meterRegistry.close();
+    }
+
+    @Test
+    void alertsFirstSignInAndCoalescesTheRest() {
+        coalescer.signedIn(user);
+        coalescer.signedIn(user);
+        coalescer.signedIn(user);
+
+        assertEquals(1, sent.size());
+        assertEquals(2.0, meterRegistry.get("email.sign_in_alert.coalesced").counter().count());
+    }
+
+    @Test
+    void flushSendsDigestOfExpiredWindow() throws Exception {
+        coalescer.signedIn(user);
+        coalescer.signedIn(user);
+        Thread.sleep(WINDOW.toMillis() + 50);
+
+        coalescer.flush();
+
+        assertEquals(2, sent.size());
+        assertTrue(sent.get(1).contains("1 more sign-in to your account in the last 1 minute:"));
+    }
+
+    @Test
+    void sendsDigestOfExpiredWindowReplacedBeforeFlush() throws Exception {
+        coalescer.signedIn(user);
+        coalescer.signedIn(user);
+        coalescer.signedIn(user);
+        Thread.sleep(WINDOW.toMillis() + 50);
+
+        coalescer.signedIn(user);
+        coalescer.flush();
+
+        assertEquals(3, sent.size());
+        assertTrue(sent.get(1).contains("2 more sign-ins to your account"));
+        assertFalse(sent.get(2).contains("more sign-in"));
+    }
+}